@@ -1,7 +1,8 @@
 import axios from 'axios';
 import type { InternalAxiosRequestConfig } from 'axios';
+import { getSessionId } from '../utils/sessionId';
 
-const baseURL = 'http://localhost:8080';
+export const baseURL = 'http://localhost:8080';
 
 export const apiClient = axios.create({ // axios 인스턴스 생성
   baseURL,
@@ -17,6 +18,7 @@ apiClient.interceptors.request.use( // 요청 인터셉터 추가 → 등록한
     if (token) { // Authorization 헤더에 토큰 추가
       config.headers.Authorization = `Bearer ${token}`;
     }
+    config.headers['X-Session-Id'] = getSessionId(); // 비로그인 사용자의 좋아요 구분과 목록의 liked 계산에 사용
     return config;
   },
   (error) => Promise.reject(error)
@@ -1,4 +1,5 @@
-import { apiClient } from './ApiClient';
+import { apiClient, baseURL } from './ApiClient';
+import type { Reply } from '../utils/type';
 
 export const createReviewApi = (review: any) => {
   return apiClient.post('/reviews', review);
@@ -8,6 +9,10 @@ export const readAllReviewsApi = (bookId: string) => {
   return apiClient.get('/reviews', { params: { bookId } }); // bookId를 쿼리 패러미터로 전달
 };
 
+export const readBookSummariesApi = (bookIds: string[]) => {
+  return apiClient.get('/reviews/summary', { params: { bookIds: bookIds.join(',') } }); // 한 페이지에 보이는 도서들의 리뷰 요약을 한 번에 조회
+};
+
 export const updateReviewApi = (reviewId: number, review: any) => {
   return apiClient.put(`/reviews/${reviewId}`, review);
 };
@@ -16,12 +21,46 @@ export const deleteReviewApi = (reviewId: number) => {
   return apiClient.delete(`/reviews/${reviewId}`);
 };
 
+export const likeReviewApi = (reviewId: number) => { // 로그인하지 않았으면 세션 ID(X-Session-Id 헤더)로 좋아요를 구분
+  return apiClient.post(`/reviews/${reviewId}/like`);
+};
+
+export const unlikeReviewApi = (reviewId: number) => {
+  return apiClient.delete(`/reviews/${reviewId}/like`);
+};
+
+export const subscribeBookEventsApi = ( // 도서의 리뷰/답글/좋아요 변경을 SSE로 받음 (반환한 함수로 연결 종료)
+  bookId: string,
+  onLike: (reviewId: number, likeCount: number) => void,
+  onChange: () => void
+) => {
+  const source = new EventSource(`${baseURL}/books/${encodeURIComponent(bookId)}/events`); // 끊기면 브라우저가 Last-Event-ID 로 다시 연결
+  source.addEventListener('like', (event) => {
+    const { reviewId, likeCount } = JSON.parse((event as MessageEvent).data);
+    onLike(reviewId, likeCount);
+  });
+  ['review.created', 'review.updated', 'review.deleted', 'reply.created', 'reply.updated', 'reply.deleted', 'reset']
+    .forEach(type => source.addEventListener(type, onChange)); // reset: 놓친 변경을 이어 받을 수 없으므로 다시 조회
+  return () => source.close();
+};
+
 export const createReplyApi = (reviewId: number, reply: any) => {
   return apiClient.post(`/replies/${reviewId}`, reply);
 };
 
-export const readAllRepliesApi = () => {
-  return apiClient.get('/replies');
+export const readRepliesApi = (reviewIds: number[]) => {
+  return apiClient.get('/replies', { params: { reviewIds: reviewIds.join(',') } }); // 화면에 보이는 리뷰들의 답글만 한 번에 조회
+};
+
+export const readReviewRepliesApi = async (reviewId: number) => { // 한 리뷰의 전체 답글을 커서 페이지로 이어서 조회 (목록에는 최근 답글 몇 개만 포함)
+  const replies: Reply[] = [];
+  let cursor: string | null = null;
+  do {
+    const res: { data: { items: Reply[], nextCursor: string | null } } = await apiClient.get(`/reviews/${reviewId}/replies`, { params: { size: 100, cursor } });
+    replies.push(...res.data.items);
+    cursor = res.data.nextCursor;
+  } while (cursor);
+  return replies;
 };
 
 export const updateReplyApi = (reviewId: number, reply: any) => {
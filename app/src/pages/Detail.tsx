@@ -2,11 +2,11 @@ import React, { useEffect, useMemo, useState } from 'react';
 import { useParams } from 'react-router-dom';
 import axios from 'axios';
 import { useAuthStore } from '../stores/useAuthStore';
-import { createReviewApi, readAllReviewsApi, updateReviewApi, deleteReviewApi, createReplyApi, readAllRepliesApi, updateReplyApi, deleteReplyApi } from '../apis/DetailApiService';
-import { getSessionId, generateSessionId } from '../utils/sessionId';
+import { createReviewApi, readAllReviewsApi, updateReviewApi, deleteReviewApi, likeReviewApi, unlikeReviewApi, createReplyApi, readReviewRepliesApi, updateReplyApi, deleteReplyApi, subscribeBookEventsApi } from '../apis/DetailApiService';
+import { generateSessionId } from '../utils/sessionId';
 import { formatDate } from '../utils/formDate';
 import type { Book, Review, Reply } from '../utils/type';
-import { useQuery, useMutation } from '@tanstack/react-query';
+import { useQuery, useQueries, useMutation, useQueryClient } from '@tanstack/react-query';
 
 const Detail: React.FC = () => {
   const { id } = useParams<{ id: string }>(); // URL 패러미터에서 도서 ID를 가져옴
@@ -21,6 +21,7 @@ const Detail: React.FC = () => {
   const [editContent, setEditContent] = useState(''); // 수정 중인 리뷰 내용
   const [editingReply, setEditingReply] = useState<number | null>(null); // 수정 중인 답글 ID
   const [editReplyContent, setEditReplyContent] = useState(''); // 수정 중인 답글 내용
+  const [expandedReviews, setExpandedReviews] = useState<number[]>([]); // 전체 답글을 펼친 리뷰 ID 목록
   const [sortBy, setSortBy] = useState('latest'); // 정렬 기준 (최신순)
   // setItemsPerPage, queryClient 등 사용하지 않는 변수 제거
 
@@ -32,21 +33,54 @@ const Detail: React.FC = () => {
   const { data: reviews = [], refetch: refetchReviews } = useQuery({ // 리뷰 목록 가져오기
     queryKey: ['reviews', id], // 도서 ID를 포함한 쿼리 키
     queryFn: () => readAllReviewsApi(id || ''), // 도서 ID를 기반으로 리뷰 목록을 가져오는 API 호출
+    staleTime: Infinity, // 변경은 SSE 이벤트로 받으므로 창 포커스 등으로 다시 조회하지 않음
     select: (res) => (res.data || []).map((review: Review & { user?: { username?: string }, username?: string }) => ({ // 리뷰 데이터 가공
       id: review.id,
       content: review.content,
       bookId: review.bookId,
-      likes: Array.isArray(review.likes) ? review.likes : [],
+      likeCount: review.likeCount || 0, // 좋아요 목록 대신 서버가 계산한 좋아요 수와 내 좋아요 여부를 사용
+      liked: !!review.liked,
+      replyCount: review.replyCount || 0,
+      latestReplies: review.latestReplies || [], // 최근 답글은 리뷰 목록 응답에 포함되어 상세 화면을 요청 한 번으로 그림
       createdAt: review.createdAt,
-      replies: Array.isArray(review.replies) ? review.replies : [],
       userId: review.user?.username || review.username || 'Unknown'
     }))
   });
 
-  const { refetch: refetchReplies } = useQuery({ // 답글 목록 가져오기
-    queryKey: ['replies', id], // 도서 ID를 포함한 쿼리 키
-    queryFn: () => readAllRepliesApi().then(res => res.data as Reply[] || []) // 답글 목록을 가져오는 API 호출
+  const threads = useQueries({ // 펼친 리뷰의 전체 답글만 가져오기
+    queries: expandedReviews.map(reviewId => ({
+      queryKey: ['replies', id, reviewId], // 도서 ID와 리뷰 ID를 포함한 쿼리 키
+      queryFn: () => readReviewRepliesApi(reviewId),
+      staleTime: Infinity
+    }))
+  });
+
+  const queryClient = useQueryClient();
+  const refetchReplies = () => queryClient.invalidateQueries({ queryKey: ['replies', id] }); // 펼친 답글 목록 다시 조회
+  useEffect(() => { // 다른 사용자의 리뷰/답글/좋아요 변경을 받아서 목록에 반영
+    if (!id) return;
+    return subscribeBookEventsApi(id,
+      (reviewId, likeCount) => queryClient.setQueryData(['reviews', id], (res: { data?: Review[] } | undefined) => res && ({ // 좋아요 수는 다시 조회하지 않고 바로 반영
+        ...res,
+        data: (res.data || []).map(review => review.id === reviewId ? { ...review, likeCount } : review)
+      })),
+      () => {
+        queryClient.invalidateQueries({ queryKey: ['reviews', id] });
+        queryClient.invalidateQueries({ queryKey: ['replies', id] });
+      });
+  }, [id, queryClient]);
+
+  const repliesByReview: Record<number, Reply[]> = {}; // 리뷰 ID별 답글 (펼친 리뷰는 전체 답글, 나머지는 최근 답글)
+  reviews.forEach((review: Review) => {
+    repliesByReview[review.id] = review.latestReplies;
   });
+  expandedReviews.forEach((reviewId, i) => {
+    if (threads[i]?.data) repliesByReview[reviewId] = threads[i].data;
+  });
+
+  const toggleThread = (reviewId: number) => { // 전체 답글 펼치기/접기
+    setExpandedReviews(prev => prev.includes(reviewId) ? prev.filter(expanded => expanded !== reviewId) : [...prev, reviewId]);
+  };
  
   const reviewAddMutation = useMutation({ // 리뷰 등록 mutation
     mutationFn: (review: Record<string, unknown>) => createReviewApi(review), // 리뷰 등록 API 호출
@@ -126,6 +160,7 @@ const Detail: React.FC = () => {
       setEditingReply(null);
       setEditReplyContent('');
       refetchReviews();
+      refetchReplies();
     },
     onError: (error: unknown) => { // 답글 수정 실패시
       if (error && typeof error === 'object' && 'response' in error) { // @ts-expect-error: error 객체에 response 프로퍼티가 없을 수 있으나, axios 에러 타입을 안전하게 처리하기 위함
@@ -142,6 +177,7 @@ const Detail: React.FC = () => {
     },
     onSuccess: () => { // 답글 삭제 성공시
       refetchReviews();
+      refetchReplies();
     },
     onError: (error: unknown) => { // 답글 삭제 실패시
       if (error && typeof error === 'object' && 'response' in error) { // @ts-expect-error: error 객체에 response 프로퍼티가 없을 수 있으나, axios 에러 타입을 안전하게 처리하기 위함
@@ -179,9 +215,9 @@ const Detail: React.FC = () => {
       case 'latest':
         return sorted.sort((a, b) => new Date(b.createdAt).getTime() - new Date(a.createdAt).getTime());
       case 'likes':
-        return sorted.sort((a, b) => (b.likes?.length || 0) - (a.likes?.length || 0));
+        return sorted.sort((a, b) => b.likeCount - a.likeCount);
       case 'replies':
-        return sorted.sort((a, b) => (b.replies?.length || 0) - (a.replies?.length || 0));
+        return sorted.sort((a, b) => b.replyCount - a.replyCount);
       default:
         return sorted;
     }
@@ -209,20 +245,14 @@ const Detail: React.FC = () => {
 
   const toggleLike = async (reviewId: number) => { // 좋아요 토글 핸들러
     const review = reviews.find(r => r.id === reviewId); // 리뷰 객체를 원본 객체로 변환
-    const userId = authenticated ? username || getSessionId() : getSessionId(); // 인증된 사용자 ID 또는 세션 ID 사용
 
     if (!review) return;
-    const currentLikes = Array.isArray(review.likes) ? review.likes.map(String) : []; // 좋아요 목록을 문자열 배열로 변환
-    const newLikes = currentLikes.includes(userId) // 현재 사용자가 좋아요를 눌렀는지 확인
-      ? currentLikes.filter(id => id !== userId) // 좋아요 취소
-      : [...currentLikes, userId]; // 좋아요 추가
-      
+    const liked = review.liked; // 현재 사용자가 좋아요를 눌렀는지 (서버가 로그인 사용자 또는 세션 ID 기준으로 계산)
+
     try {
-      const response = await axios.put(`http://localhost:8080/reviews/${reviewId}/like`, newLikes, { // 인증 헤더를 피하려고 좋아요를 업데이트하기 위한 분할된 axios 인스턴스 사용
-        headers: { 
-          'Content-Type': 'application/json'
-        }
-      });
+      const response = liked
+        ? await unlikeReviewApi(reviewId) // 좋아요 취소 (내 좋아요만 삭제)
+        : await likeReviewApi(reviewId); // 좋아요 추가 (내 좋아요만 추가)
       if (response.status === 200 || response.status === 201) {
         await refetchReviews();
       } else {
@@ -272,10 +302,7 @@ const Detail: React.FC = () => {
     if (!review) return;
     const updatedReview = {
       content: editContent,
-      bookId: review.bookId,
-      likes: review.likes,
-      createdAt: review.createdAt,
-      replies: review.replies
+      bookId: review.bookId
     };
     reviewEditMutation.mutate({ reviewId, updatedReview });
   };
@@ -450,16 +477,16 @@ const Detail: React.FC = () => {
               <div className="flex gap-2 mb-2">
                 <button onClick={() => toggleLike(review.id)}
                   className={`text-xs px-2 py-1 rounded border ${
-                    review.likes.includes(authenticated ? username || getSessionId() : getSessionId()) 
+                    review.liked 
                       ? 'bg-blue-500 text-white border-blue-500' 
                       : 'bg-white text-blue-500 border-blue-500 hover:bg-blue-500 hover:text-white'
                   }`}
                 >
-                  👍 Like ({review.likes.length})
+                  👍 Like ({review.likeCount})
                 </button>
                 <button onClick={() => startReply(review.id)}
                   className="text-xs bg-white text-gray-500 border border-gray-300 hover:bg-gray-50 px-2 py-1 rounded">
-                  💬 Reply ({review.replies.length})
+                  💬 Reply ({review.replyCount})
                 </button>
               </div>
 
@@ -482,7 +509,7 @@ const Detail: React.FC = () => {
                 </div>
               )}
 
-              {review.replies && review.replies.length > 0 && review.replies.map((reply: Reply) => (
+              {(repliesByReview[review.id] || []).map((reply: Reply) => (
                 <div key={reply.id} className="bg-gray-50 border border-gray-200 rounded p-3 mt-2 ml-4">
                   <div className="p-2">
                     {editingReply !== reply.id ? (
@@ -530,6 +557,13 @@ const Detail: React.FC = () => {
                   </div>
                 </div>
               ))}
+
+              {review.replyCount > review.latestReplies.length && (
+                <button onClick={() => toggleThread(review.id)}
+                  className="text-xs text-blue-500 hover:underline mt-2 ml-4">
+                  {expandedReviews.includes(review.id) ? 'Hide replies' : `View all ${review.replyCount} replies`}
+                </button>
+              )}
             </div>
           </div>
         ))}
@@ -1,9 +1,10 @@
 import React, { useEffect, useMemo, useState } from 'react';
 import { Link } from 'react-router-dom';
 import axios from 'axios';
-import type { Book } from '../utils/type';
+import type { Book, BookSummary } from '../utils/type';
 import { getSessionValue } from '../utils/sessionValue';
 import { useQuery } from '@tanstack/react-query';
+import { readBookSummariesApi } from '../apis/DetailApiService';
 
 const Home: React.FC = () => {
   // 기존 books, loading, showErrorMessage 상태 제거
@@ -57,6 +58,15 @@ const Home: React.FC = () => {
   const indexOfLastItem = currentPage * itemsPerPage;
   const indexOfFirstItem = indexOfLastItem - itemsPerPage;
   const currentItems: Book[] = filteredLists.slice(indexOfFirstItem, indexOfLastItem);
+  const currentBookIds = useMemo(() => currentItems.map(book => book.key.replace('/works/', '')), [currentItems]); // 상세 페이지의 도서 ID와 같은 형식
+  const { data: summaries } = useQuery<Record<string, BookSummary>>({ // 현재 페이지 도서들의 리뷰 요약을 요청 한 번으로 가져옴
+    queryKey: ['bookSummaries', currentBookIds],
+    queryFn: async () => {
+      const response = await readBookSummariesApi(currentBookIds);
+      return Object.fromEntries(response.data.map((summary: BookSummary) => [summary.bookId, summary]));
+    },
+    enabled: currentBookIds.length > 0
+  });
 
   const handlePageChange = (pageNumber: number) => { // 페이지 변경 핸들러
     setCurrentPage(pageNumber);
@@ -102,7 +112,9 @@ const Home: React.FC = () => {
         </div>
       ) : (
         <div className="grid grid-cols-1 md:grid-cols-2 lg:grid-cols-3 gap-6 mb-6">
-          {currentItems.map((book: Book) => (
+          {currentItems.map((book: Book) => {
+            const summary = summaries?.[book.key.replace('/works/', '')];
+            return (
             <Link key={book.key} to={`/detail${book.key}`} className="block no-underline">
               <div className="card hover:shadow-lg transition-shadow h-full flex flex-col overflow-hidden">
                 <img src={book.cover_i ? `https://covers.openlibrary.org/b/id/${book.cover_i}-M.jpg`
@@ -116,10 +128,17 @@ const Home: React.FC = () => {
                     <p><strong>Published year:</strong> {book.first_publish_year || 'No information'}</p>
                     <p><strong>Language:</strong> {book.language?.join(', ') || 'No information'}</p>
                   </div>
+                  {summary && summary.reviewCount > 0 && (
+                    <div className="text-sm text-gray-500 mt-2">
+                      💬 {summary.reviewCount} · ❤️ {summary.likeTotal}
+                      {summary.latestReviewAt && ` · Latest ${new Date(summary.latestReviewAt).toLocaleDateString()}`}
+                    </div>
+                  )}
                 </div>
               </div>
             </Link>
-          ))}
+            );
+          })}
         </div>
       )}
 
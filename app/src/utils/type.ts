@@ -10,13 +10,22 @@ export interface Book {
   subject?: string[];
 }
 
+export interface BookSummary {
+  bookId: string;
+  reviewCount: number;
+  likeTotal: number;
+  latestReviewAt: string | null;
+}
+
 export interface Review {
   id: number;
   bookId: string;
   content: string;
-  likes: string[];
+  likeCount: number;
+  liked: boolean;
+  replyCount: number;
+  latestReplies: Reply[]; // 최근 답글 몇 개 (전체 답글은 펼칠 때 따로 조회)
   createdAt: string;
-  replies: Reply[];
   userId: string;
 }
 
@@ -0,0 +1,96 @@
+package com.bookreview.server;
+
+import com.bookreview.server.reply.Reply;
+import com.bookreview.server.reply.ReplySummary;
+import com.bookreview.server.review.Review;
+import com.bookreview.server.review.ReviewSummary;
+import com.bookreview.server.user.User;
+import com.bookreview.server.user.UserSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/* 목록 응답의 Jackson 직렬화 비용: 응답 레코드(ReviewSummary, ReplySummary) vs 엔티티 (Reply 는 항목마다 UserSummary 를 새로 만듦) */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+  @Param({"20", "200"})
+  private int size;
+
+  private ObjectMapper objectMapper;
+  private List<ReviewSummary> reviewSummaries;
+  private List<Review> reviews;
+  private List<ReplySummary> replySummaries;
+  private List<Reply> replies;
+
+  @Setup
+  public void setUp() {
+    objectMapper = Jackson2ObjectMapperBuilder.json() // 스프링 부트의 기본 ObjectMapper 와 같은 설정
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+
+    reviewSummaries = new ArrayList<>();
+    reviews = new ArrayList<>();
+    replySummaries = new ArrayList<>();
+    replies = new ArrayList<>();
+    LocalDateTime now = LocalDateTime.now();
+
+    for (int i = 0; i < size; i++) {
+      User user = new User();
+      user.setId((long) i % 50);
+      user.setUsername("user" + i % 50);
+      String content = "review content " + i + " ".repeat(i % 7) + "with some more words about the book";
+
+      Review review = new Review();
+      review.setId((long) i);
+      review.setBookId("book-1");
+      review.setContent(content);
+      review.setCreatedAt(now.minusMinutes(i));
+      review.setUser(user);
+      reviews.add(review);
+      reviewSummaries.add(ReviewSummary.from(review, UserSummary.from(user), 3).withLikes(i % 11, i % 2 == 0));
+
+      Reply reply = new Reply();
+      reply.setReview(review);
+      reply.setUser(user);
+      reply.setContent("reply " + i);
+      reply.setCreatedAt(now.minusMinutes(i));
+      replies.add(reply);
+      replySummaries.add(ReplySummary.from(reply, UserSummary.from(user)));
+    }
+  }
+
+  @Benchmark
+  public byte[] reviewSummaries() throws Exception { // GET /reviews 응답
+    return objectMapper.writeValueAsBytes(reviewSummaries);
+  }
+
+  @Benchmark
+  public byte[] reviewEntities() throws Exception {
+    return objectMapper.writeValueAsBytes(reviews);
+  }
+
+  @Benchmark
+  public byte[] replySummaries() throws Exception { // GET /replies 응답
+    return objectMapper.writeValueAsBytes(replySummaries);
+  }
+
+  @Benchmark
+  public byte[] replyEntities() throws Exception { // Reply.getUserForSerialization 이 항목마다 UserSummary 를 할당
+    return objectMapper.writeValueAsBytes(replies);
+  }
+}
@@ -0,0 +1,71 @@
+package com.bookreview.server.jwt;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/* 요청마다 같은 토큰을 디코딩할 때의 비용: RS256 서명을 매번 검증 vs 검증된 Jwt 캐시 */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtDecodeBenchmark {
+  private String token;
+  private JwtDecoder nimbusDecoder;
+  private JwtDecoder cachingDecoder;
+
+  @Setup
+  public void setUp() throws Exception { // JwtSecurityConfig 와 같은 RSA-2048 키로 토큰을 발급
+    var keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+    keyPairGenerator.initialize(2048);
+    var keyPair = keyPairGenerator.generateKeyPair();
+    RSAKey rsaKey = new RSAKey.Builder((RSAPublicKey) keyPair.getPublic())
+        .privateKey((RSAPrivateKey) keyPair.getPrivate())
+        .keyID(UUID.randomUUID().toString())
+        .build();
+
+    var claims = JwtClaimsSet.builder()
+        .issuer("self")
+        .issuedAt(Instant.now())
+        .expiresAt(Instant.now().plus(90, ChronoUnit.MINUTES))
+        .subject("alice")
+        .claim("scope", "USER")
+        .build();
+    token = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(rsaKey)))
+        .encode(JwtEncoderParameters.from(claims))
+        .getTokenValue();
+
+    nimbusDecoder = NimbusJwtDecoder.withPublicKey(rsaKey.toRSAPublicKey()).build();
+    cachingDecoder = new CachingJwtDecoder(NimbusJwtDecoder.withPublicKey(rsaKey.toRSAPublicKey()).build(), 10_000);
+  }
+
+  @Benchmark
+  public Jwt nimbusDecode() { // 기존: 매번 서명 검증
+    return nimbusDecoder.decode(token);
+  }
+
+  @Benchmark
+  public Jwt cachingDecode() { // 변경: 첫 요청 이후에는 다이제스트 계산 + 캐시 조회
+    return cachingDecoder.decode(token);
+  }
+}
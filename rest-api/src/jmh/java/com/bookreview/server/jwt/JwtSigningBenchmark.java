@@ -0,0 +1,76 @@
+package com.bookreview.server.jwt;
+
+import com.bookreview.server.user.AuthenticatedUser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/* 서명 알고리즘별 토큰 발급(서명)과 디코딩(서명 검증) 비용 (검증 캐시 없이) */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtSigningBenchmark {
+  @Param({"RS256", "ES256"})
+  private String algorithm;
+
+  private JwtSigningKeys signingKeys;
+  private JwtEncoder encoder;
+  private JwtDecoder decoder;
+  private JwtClaimsSet claims;
+  private JwtTokenService tokenService;
+  private Authentication authentication;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    signingKeys = JwtSigningKeys.load(algorithm, "", "", "", ""); // 임시 키
+    encoder = new NimbusJwtEncoder(signingKeys.jwkSource());
+    decoder = signingKeys.decoder();
+    claims = JwtClaimsSet.builder()
+        .issuer("self")
+        .issuedAt(Instant.now())
+        .expiresAt(Instant.now().plus(90, ChronoUnit.MINUTES))
+        .subject("alice")
+        .claim("scope", "USER")
+        .build();
+    token = sign();
+
+    tokenService = new JwtTokenService(encoder, signingKeys);
+    AuthenticatedUser user = new AuthenticatedUser(1L, "alice", "", List.of(new SimpleGrantedAuthority("USER")));
+    authentication = UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities());
+  }
+
+  @Benchmark
+  public String sign() { // JwtTokenService.generateToken 의 인코딩 부분
+    return encoder.encode(JwtEncoderParameters.from(signingKeys.header(), claims)).getTokenValue();
+  }
+
+  @Benchmark
+  public String generateToken() { // POST /authenticate 의 토큰 발급 (권한 문자열, 클레임 구성 포함)
+    return tokenService.generateToken(authentication);
+  }
+
+  @Benchmark
+  public Jwt verify() {
+    return decoder.decode(token);
+  }
+}
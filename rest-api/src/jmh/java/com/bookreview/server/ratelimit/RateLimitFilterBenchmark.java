@@ -0,0 +1,98 @@
+package com.bookreview.server.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/* 요청마다 RateLimitFilter 가 더하는 시간: 규칙에 맞지 않는 요청, 토큰을 얻는 요청(한 사용자/여러 스레드/많은 IP), 429 로 막히는 요청 */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RateLimitFilterBenchmark {
+  private static final FilterChain NO_OP = (request, response) -> {};
+  private static final int ADDRESSES = 10_000;
+
+  private RateLimitFilter filter;
+  private MockHttpServletResponse response;
+  private MockHttpServletRequest readRequest;
+  private MockHttpServletRequest likeRequest;
+  private MockHttpServletRequest loginRequest;
+  private MockHttpServletRequest[] likeRequestsByAddress;
+  private int next;
+
+  @Setup
+  public void setUp() { // application.properties 와 같은 규칙 (좋아요는 막히지 않도록 한도를 크게, 로그인은 바로 막히도록 작게)
+    filter = new RateLimitFilter(new RateLimiter(new RateLimitProperties(true, 100_000, List.of(
+        new RateLimitProperties.Rule("like", null, "/reviews/*/like", 1_000_000_000, Duration.ofSeconds(1), RateLimitProperties.Key.USER),
+        new RateLimitProperties.Rule("authenticate", "POST", "/authenticate", 1, Duration.ofHours(1), RateLimitProperties.Key.IP),
+        new RateLimitProperties.Rule("register", "POST", "/register", 1, Duration.ofHours(1), RateLimitProperties.Key.IP))),
+        new SimpleMeterRegistry()));
+    response = new MockHttpServletResponse();
+    readRequest = request("GET", "/reviews", "10.0.0.1");
+    likeRequest = request("PUT", "/reviews/42/like", "10.0.0.1");
+    loginRequest = request("POST", "/authenticate", "10.0.0.1");
+    likeRequestsByAddress = new MockHttpServletRequest[ADDRESSES];
+
+    for (int i = 0; i < ADDRESSES; i++) {
+      likeRequestsByAddress[i] = request("PUT", "/reviews/42/like", "10.0." + (i / 256) + "." + (i % 256));
+    }
+  }
+
+  private static MockHttpServletRequest request(String method, String path, String remoteAddress) {
+    MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+    request.setRemoteAddr(remoteAddress);
+    return request;
+  }
+
+  @Benchmark
+  public void withoutFilter() throws Exception { // 기준: 필터 없이 체인만 호출
+    NO_OP.doFilter(likeRequest, response);
+  }
+
+  @Benchmark
+  public void unmatchedRequest() throws Exception { // 규칙에 맞지 않는 조회 요청 (경로 비교만)
+    filter.doFilter(readRequest, response, NO_OP);
+  }
+
+  @Benchmark
+  public void allowedRequest() throws Exception { // 같은 IP 의 좋아요 (캐시 적중 + CAS 한 번)
+    filter.doFilter(likeRequest, response, NO_OP);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void allowedRequestContended(SameAddress sameAddress) throws Exception { // 네 스레드가 같은 버킷을 동시에 갱신
+    filter.doFilter(sameAddress.request, sameAddress.response, NO_OP);
+  }
+
+  @Benchmark
+  public void allowedRequestManyAddresses() throws Exception { // 1만 개의 IP 를 돌아가며 (캐시 크기 안)
+    filter.doFilter(likeRequestsByAddress[next++ % ADDRESSES], response, NO_OP);
+  }
+
+  @Benchmark
+  public MockHttpServletResponse limitedRequest() throws Exception { // 토큰이 없는 로그인 요청 → 429 응답 작성
+    MockHttpServletResponse limited = new MockHttpServletResponse();
+    filter.doFilter(loginRequest, limited, NO_OP);
+    return limited;
+  }
+
+  @State(Scope.Thread)
+  public static class SameAddress { // 요청 객체는 스레드마다 (필터가 요청 속성을 씀), IP 는 같음
+    private final MockHttpServletRequest request = request("PUT", "/reviews/42/like", "10.0.0.1");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+  }
+}
@@ -0,0 +1,110 @@
+package com.bookreview.server.review;
+
+import com.bookreview.server.BookReviewServicesApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/* H2(메모리)에 데이터를 채운 애플리케이션 컨텍스트에서 도서별 리뷰 목록 조회 (ReviewService.readReviews) */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReviewReadBenchmark {
+  private static final int USERS = 200;
+  private static final int BOOKS = 50;
+  private static final int REVIEWS_PER_BOOK = 100;
+  private static final int REPLIES_PER_REVIEW = 3;
+  private static final int LIKES_PER_REVIEW = 10;
+
+  @Param({"true", "false"})
+  private boolean secondLevelCache; // Hibernate 2차 캐시와 쿼리 캐시 사용 여부
+
+  private ConfigurableApplicationContext context;
+  private ReviewService reviewService;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new SpringApplicationBuilder(BookReviewServicesApplication.class)
+        .run("--server.port=0", // 보안 설정이 MVC 와 같은 컨텍스트를 요구하므로 웹 서버는 임의 포트로 띄움
+            "--spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "--spring.jpa.show-sql=false",
+            "--spring.sql.init.mode=never",
+            "--spring.jpa.properties.hibernate.cache.use_second_level_cache=" + secondLevelCache,
+            "--spring.jpa.properties.hibernate.cache.use_query_cache=" + secondLevelCache,
+            "--bookreview.jwt.jwks-path=",
+            "--bookreview.search.index-path=",
+            "--logging.level.root=WARN",
+            "--logging.level.com.bookreview=WARN");
+    seed(context.getBean(JdbcTemplate.class));
+    reviewService = context.getBean(ReviewService.class);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public List<ReviewSummary> readReviews() { // 도서를 돌아가며 조회 (로그인 사용자 기준 liked 계산 포함)
+    int book = next++ % BOOKS;
+    return reviewService.readReviews("book-" + book, "user" + book);
+  }
+
+  private static void seed(JdbcTemplate jdbcTemplate) {
+    List<Object[]> users = new ArrayList<>();
+    for (int u = 1; u <= USERS; u++) {
+      users.add(new Object[] {(long) u, "user" + u, "{noop}password"});
+    }
+    jdbcTemplate.batchUpdate("INSERT INTO users (id, username, password) VALUES (?, ?, ?)", users);
+
+    LocalDateTime now = LocalDateTime.now();
+    List<Object[]> reviews = new ArrayList<>();
+    List<Object[]> replies = new ArrayList<>();
+    List<Object[]> likes = new ArrayList<>();
+    long reviewId = 0;
+    long replyId = 0;
+
+    for (int b = 0; b < BOOKS; b++) {
+      for (int r = 0; r < REVIEWS_PER_BOOK; r++) {
+        reviewId++;
+        reviews.add(new Object[] {reviewId, "book-" + b, "review " + reviewId + " of book " + b, Timestamp.valueOf(now.minusMinutes(reviewId)),
+            LIKES_PER_REVIEW, REPLIES_PER_REVIEW, reviewId % USERS + 1});
+
+        for (int p = 0; p < REPLIES_PER_REVIEW; p++) {
+          replyId++;
+          replies.add(new Object[] {replyId, "reply " + replyId, Timestamp.valueOf(now.minusMinutes(reviewId).plusSeconds(p + 1)),
+              reviewId, replyId % USERS + 1});
+        }
+
+        for (int l = 0; l < LIKES_PER_REVIEW; l++) {
+          likes.add(new Object[] {reviewId, "user" + ((reviewId + l) % USERS + 1)});
+        }
+      }
+    }
+
+    jdbcTemplate.batchUpdate("INSERT INTO review (id, book_id, content, created_at, like_count, reply_count, user_id, version) VALUES (?, ?, ?, ?, ?, ?, ?, 0)", reviews);
+    jdbcTemplate.batchUpdate("INSERT INTO reply (id, content, created_at, review_id, user_id, version) VALUES (?, ?, ?, ?, ?, 0)", replies);
+    jdbcTemplate.batchUpdate("INSERT INTO review_like (review_id, user_id) VALUES (?, ?)", likes);
+  }
+}
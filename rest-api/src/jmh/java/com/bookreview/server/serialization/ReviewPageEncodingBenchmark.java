@@ -0,0 +1,97 @@
+package com.bookreview.server.serialization;
+
+import com.bookreview.server.reply.ReplySummary;
+import com.bookreview.server.review.ReviewPage;
+import com.bookreview.server.review.ReviewSummary;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/*
+ * 100개 리뷰 페이지(GET /reviews?size=100, 리뷰마다 최근 답글 3개)를 형식별로 인코딩하는 비용과 크기.
+ * format: JSON / Smile / CBOR, accessors: 리플렉션 / Blackbird, gzip: Tomcat 압축(기본 압축 레벨)까지 포함.
+ * 크기(바이트)는 측정 결과에 섞지 않고 readme 의 표에 기록함 (페이지 내용이 고정이라 실행마다 거의 같음).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReviewPageEncodingBenchmark {
+  @Param({"json", "smile", "cbor"})
+  private String format;
+
+  @Param({"reflection", "blackbird"})
+  private String accessors;
+
+  private ObjectMapper objectMapper;
+  private ReviewPage page;
+
+  @Setup
+  public void setUp() throws Exception {
+    JsonFactory factory = switch (format) {
+      case "smile" -> new SmileFactory();
+      case "cbor" -> new CBORFactory();
+      default -> new JsonFactory();
+    };
+    Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json() // 스프링 부트의 기본 ObjectMapper 와 같은 설정
+        .factory(factory)
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    if (accessors.equals("blackbird")) {
+      builder.modulesToInstall(new BlackbirdModule());
+    }
+
+    objectMapper = builder.build();
+
+    List<ReviewSummary> reviews = new ArrayList<>();
+    LocalDateTime now = LocalDateTime.now();
+
+    for (int i = 0; i < 100; i++) {
+      List<ReplySummary> replies = new ArrayList<>();
+
+      for (int j = 0; j < 3; j++) {
+        replies.add(new ReplySummary(1000L + i * 3 + j, (long) i, "reply " + j + " to review " + i, now.minusMinutes(j), (long) j % 50, "user" + j % 50));
+      }
+
+      ReviewSummary review = new ReviewSummary((long) i, "OL12345W", "review content " + i + " with some more words about the book", now.minusMinutes(i),
+          (long) i % 50, "user" + i % 50, i % 11, 5);
+      reviews.add(review.withLikes(i % 11, i % 2 == 0).withLatestReplies(replies));
+    }
+
+    page = new ReviewPage(reviews, "99");
+  }
+
+  @Benchmark
+  public byte[] encode() throws Exception {
+    return objectMapper.writeValueAsBytes(page);
+  }
+
+  @Benchmark
+  public byte[] encodeGzip() throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+      objectMapper.writeValue(gzip, page);
+    }
+
+    return bytes.toByteArray();
+  }
+}
@@ -0,0 +1,57 @@
+package com.bookreview.server.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/* 엔드포인트 하나의 응답 시간(나노초)을 모두 모았다가 백분위를 계산 (부하 테스트 규모에서는 정렬로 충분) */
+class LatencyRecorder {
+  private final ReentrantLock lock = new ReentrantLock();
+  private long[] samples = new long[1024];
+  private int count;
+  private long errors;
+
+  void record(long latencyNanos, boolean success) {
+    lock.lock();
+    try {
+      if (count == samples.length) {
+        samples = Arrays.copyOf(samples, count * 2);
+      }
+
+      samples[count++] = latencyNanos;
+
+      if (!success) {
+        errors++;
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  Snapshot snapshot() {
+    lock.lock();
+    try {
+      long[] sorted = Arrays.copyOf(samples, count);
+      Arrays.sort(sorted);
+      return new Snapshot(sorted, errors);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  record Snapshot(long[] sorted, long errors) {
+    int count() { return sorted.length; }
+
+    double percentileMillis(double percentile) { // nearest-rank
+      if (sorted.length == 0) {
+        return 0;
+      }
+
+      int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+      return sorted[Math.max(rank, 1) - 1] / 1_000_000.0;
+    }
+
+    double maxMillis() {
+      return sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0;
+    }
+  }
+}
@@ -0,0 +1,327 @@
+package com.bookreview.server.loadtest;
+
+import com.bookreview.server.BookReviewServicesApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * HTTP 부하 테스트 (./gradlew loadTest).
+ * 애플리케이션을 H2(메모리)로 띄워 사용자, 도서, 리뷰, 답글을 채우고 /authenticate 로 토큰을 발급받은 뒤,
+ * 정해진 비율의 요청을 일정한 도착률(open-loop)로 보냄 → 서버가 느려져도 요청 간격은 그대로이고, 지연은 예정 시각부터 잼.
+ * 설정은 -PloadTest.<이름>=<값> (기본값은 아래 Options 참고)
+ */
+public class LoadTest {
+  private static final String PASSWORD = "password";
+  private static final List<String> ENDPOINTS = List.of("reviews", "replies", "like", "write"); // loadTest.mix 에 쓸 수 있는 이름
+  private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+  private final Options options;
+  private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+  private final Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private String baseUrl;
+  private List<String> tokens;
+  private long reviewCount;
+
+  LoadTest(Options options) {
+    this.options = options;
+    options.mix.keySet().forEach(name -> recorders.put(name, new LatencyRecorder()));
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options options = Options.fromSystemProperties();
+    List<String> springArgs = new ArrayList<>(List.of(
+        "--server.port=0",
+        "--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "--spring.datasource.username=sa",
+        "--spring.datasource.password=",
+        "--spring.jpa.hibernate.ddl-auto=create-drop",
+        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "--spring.jpa.show-sql=false",
+        "--spring.sql.init.mode=never",
+        "--bookreview.jwt.jwks-path=",
+        "--bookreview.search.index-path=", // 메모리 DB이므로 색인도 메모리에
+        "--bookreview.rate-limit.enabled=false", // 모든 요청이 한 IP 에서 오므로 요청 한도를 끔
+        "--logging.level.root=WARN", // application.properties 의 DEBUG 로그는 측정을 왜곡하므로 끔
+        "--logging.level.org.springframework=WARN",
+        "--logging.level.org.springframework.web=WARN",
+        "--logging.level.org.springframework.security=WARN",
+        "--logging.level.org.springframework.security.oauth2=WARN",
+        "--logging.level.com.bookreview=WARN"));
+
+    if (!options.profile.isBlank()) {
+      springArgs.add("--spring.profiles.active=" + options.profile);
+    }
+
+    try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BookReviewServicesApplication.class).run(springArgs.toArray(String[]::new))) {
+      LoadTest loadTest = new LoadTest(options);
+      loadTest.baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+      loadTest.seed(context.getBean(JdbcTemplate.class));
+      loadTest.tokens = loadTest.authenticate();
+      loadTest.run();
+    }
+  }
+
+  private void seed(JdbcTemplate jdbcTemplate) { // 빈 테이블에 ID 없이 넣어 IDENTITY 가 1부터 차례로 채워지게 함 (부하 중 쓰기와 충돌하지 않음)
+    String hash = new BCryptPasswordEncoder().encode(PASSWORD); // 모든 사용자가 같은 비밀번호 (해시는 한 번만 계산)
+    List<Object[]> users = new ArrayList<>();
+
+    for (int u = 1; u <= options.users; u++) {
+      users.add(new Object[] {"user" + u, hash});
+    }
+
+    jdbcTemplate.batchUpdate("INSERT INTO users (username, password) VALUES (?, ?)", users);
+
+    LocalDateTime now = LocalDateTime.now();
+    List<Object[]> reviews = new ArrayList<>();
+    List<Object[]> replies = new ArrayList<>();
+    long reviewId = 0;
+
+    for (int b = 0; b < options.books; b++) {
+      for (int r = 0; r < options.reviewsPerBook; r++) {
+        reviewId++;
+        reviews.add(new Object[] {"book-" + b, "review " + reviewId + " of book " + b, Timestamp.valueOf(now.minusMinutes(reviewId)), options.repliesPerReview, reviewId % options.users + 1});
+
+        for (int p = 0; p < options.repliesPerReview; p++) {
+          replies.add(new Object[] {"reply " + p + " to review " + reviewId, Timestamp.valueOf(now.minusMinutes(reviewId).plusSeconds(p + 1)), reviewId, (reviewId + p) % options.users + 1});
+        }
+      }
+    }
+
+    jdbcTemplate.batchUpdate("INSERT INTO review (book_id, content, created_at, like_count, reply_count, user_id, version) VALUES (?, ?, ?, 0, ?, ?, 0)", reviews);
+    jdbcTemplate.batchUpdate("INSERT INTO reply (content, created_at, review_id, user_id, version) VALUES (?, ?, ?, ?, 0)", replies);
+    reviewCount = reviewId;
+    System.out.printf("Seeded %d users, %d books, %d reviews, %d replies%n", options.users, options.books, reviews.size(), replies.size());
+  }
+
+  private List<String> authenticate() throws IOException, InterruptedException { // 실제 로그인 경로로 토큰 발급
+    List<String> minted = new ArrayList<>();
+
+    for (int u = 1; u <= Math.min(options.users, options.tokens); u++) {
+      HttpResponse<String> response = client.send(post("/authenticate", null,
+          "{\"username\":\"user" + u + "\",\"password\":\"" + PASSWORD + "\"}"), HttpResponse.BodyHandlers.ofString());
+      Matcher matcher = TOKEN.matcher(response.body());
+
+      if (response.statusCode() != 200 || !matcher.find()) {
+        throw new IllegalStateException("Authentication failed for user" + u + ": " + response.statusCode() + " " + response.body());
+      }
+
+      minted.add(matcher.group(1));
+    }
+
+    System.out.printf("Minted %d tokens%n", minted.size());
+    return minted;
+  }
+
+  private void run() throws InterruptedException {
+    long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate;
+    long total = (long) options.rate * (options.warmupSeconds + options.durationSeconds);
+    long warmupEnd = (long) options.rate * options.warmupSeconds;
+    long start = System.nanoTime();
+    List<CompletableFuture<?>> pending = new ArrayList<>();
+
+    System.out.printf("Running %d req/s for %ds (+%ds warmup), mix %s%n", options.rate, options.durationSeconds, options.warmupSeconds, options.mix);
+
+    for (long i = 0; i < total; i++) {
+      long scheduled = start + i * intervalNanos; // 예정 시각 (이전 응답을 기다리지 않음)
+      long wait = scheduled - System.nanoTime();
+
+      if (wait > 0) {
+        LockSupport.parkNanos(wait);
+      }
+
+      String endpoint = pickEndpoint();
+      LatencyRecorder recorder = i >= warmupEnd ? recorders.get(endpoint) : null;
+
+      if (inFlight.get() >= options.maxInFlight) { // 클라이언트 보호: 너무 많이 밀리면 보내지 않고 실패로 기록
+        if (recorder != null) {
+          recorder.record(System.nanoTime() - scheduled, false);
+        }
+        continue;
+      }
+
+      inFlight.incrementAndGet();
+      pending.add(client.sendAsync(request(endpoint), HttpResponse.BodyHandlers.discarding())
+          .handle((response, error) -> {
+            inFlight.decrementAndGet();
+
+            if (recorder != null) {
+              recorder.record(System.nanoTime() - scheduled, error == null && response.statusCode() < 400); // 예정 시각부터 잼 (coordinated omission 방지)
+            }
+            return null;
+          }));
+
+      if (pending.size() >= 10_000) {
+        pending.removeIf(CompletableFuture::isDone);
+      }
+    }
+
+    CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).orTimeout(60, TimeUnit.SECONDS).exceptionally(e -> null).join();
+    report(System.nanoTime() - start - TimeUnit.SECONDS.toNanos(options.warmupSeconds));
+  }
+
+  private String pickEndpoint() { // 비율에 따라 무작위 선택
+    int roll = ThreadLocalRandom.current().nextInt(options.mixTotal());
+
+    for (Map.Entry<String, Integer> entry : options.mix.entrySet()) {
+      roll -= entry.getValue();
+
+      if (roll < 0) {
+        return entry.getKey();
+      }
+    }
+
+    throw new IllegalStateException();
+  }
+
+  private HttpRequest request(String endpoint) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int book = random.nextInt(options.books);
+    long reviewId = random.nextLong(reviewCount) + 1;
+    String token = tokens.get(random.nextInt(tokens.size()));
+
+    switch (endpoint) {
+      case "reviews": // 도서 상세 페이지의 리뷰 목록
+        return get("/reviews?bookId=book-" + book, token);
+      case "replies": { // 리뷰 목록에 딸린 답글을 한 번에
+        long first = (long) book * options.reviewsPerBook + 1;
+        StringBuilder ids = new StringBuilder();
+        for (int r = 0; r < Math.min(options.reviewsPerBook, 10); r++) {
+          ids.append(r == 0 ? "" : ",").append(first + r);
+        }
+        return get("/replies?reviewIds=" + ids, token);
+      }
+      case "like": // 좋아요/취소 (같은 사용자가 반복하면 상태가 바뀌지 않는 멱등 요청)
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/reviews/" + reviewId + "/like"))
+            .header("Authorization", "Bearer " + token)
+            .method(random.nextBoolean() ? "POST" : "DELETE", HttpRequest.BodyPublishers.noBody())
+            .build();
+      case "write": // 리뷰 또는 답글 작성
+        return random.nextBoolean()
+            ? post("/reviews", token, "{\"bookId\":\"book-" + book + "\",\"content\":\"load test review\"}")
+            : post("/replies/" + reviewId, token, "{\"content\":\"load test reply\"}");
+      default:
+        throw new IllegalArgumentException("Unknown endpoint: " + endpoint);
+    }
+  }
+
+  private HttpRequest get(String path, String token) {
+    return HttpRequest.newBuilder(URI.create(baseUrl + path)).header("Authorization", "Bearer " + token).GET().build();
+  }
+
+  private HttpRequest post(String path, String token, String json) {
+    HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(json, StandardCharsets.UTF_8));
+
+    if (token != null) {
+      builder.header("Authorization", "Bearer " + token);
+    }
+
+    return builder.build();
+  }
+
+  private void report(long elapsedNanos) {
+    double seconds = elapsedNanos / 1e9;
+    StringBuilder out = new StringBuilder(String.format(Locale.ROOT, "%-8s %8s %7s %9s %9s %9s %9s %9s%n",
+        "endpoint", "count", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+
+    recorders.forEach((endpoint, recorder) -> {
+      LatencyRecorder.Snapshot snapshot = recorder.snapshot();
+      out.append(String.format(Locale.ROOT, "%-8s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+          endpoint, snapshot.count(), snapshot.errors(), snapshot.count() / seconds,
+          snapshot.percentileMillis(50), snapshot.percentileMillis(99), snapshot.percentileMillis(99.9), snapshot.maxMillis()));
+    });
+
+    System.out.print(out);
+
+    if (!options.report.isBlank()) {
+      try {
+        Path path = Path.of(options.report);
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Files.writeString(path, out.toString());
+        System.out.println("Report written to " + path);
+      } catch (IOException e) {
+        System.err.println("Could not write report: " + e.getMessage());
+      }
+    }
+  }
+
+  record Options(int rate, int durationSeconds, int warmupSeconds, int users, int books, int reviewsPerBook, int repliesPerReview,
+      int tokens, int maxInFlight, Map<String, Integer> mix, String profile, String report) {
+
+    static Options fromSystemProperties() {
+      return new Options(
+          intProperty("rate", 200), // 초당 요청 수 (도착률)
+          intProperty("duration", 30), // 측정 시간 (초)
+          intProperty("warmup", 5), // 측정에서 제외하는 워밍업 시간 (초)
+          intProperty("users", 200),
+          intProperty("books", 50),
+          intProperty("reviewsPerBook", 20),
+          intProperty("repliesPerReview", 3),
+          intProperty("tokens", 50), // /authenticate 로 발급받을 토큰 수 (요청마다 무작위로 사용)
+          intProperty("maxInFlight", 5000),
+          parseMix(System.getProperty("loadTest.mix", "reviews:60,replies:20,like:15,write:5")),
+          System.getProperty("loadTest.profile", ""), // 예: virtual
+          System.getProperty("loadTest.report", ""));
+    }
+
+    int mixTotal() {
+      return mix.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+      return Integer.parseInt(System.getProperty("loadTest." + name, String.valueOf(defaultValue)));
+    }
+
+    private static Map<String, Integer> parseMix(String value) { // "reviews:60,replies:20" → 비율
+      Map<String, Integer> mix = new LinkedHashMap<>();
+
+      for (String part : value.split(",")) {
+        String[] pair = part.trim().split(":");
+        int weight = Integer.parseInt(pair[1].trim());
+
+        if (!ENDPOINTS.contains(pair[0].trim())) {
+          throw new IllegalArgumentException("Unknown endpoint in loadTest.mix: " + pair[0] + " " + ENDPOINTS);
+        }
+
+        if (weight > 0) {
+          mix.put(pair[0].trim(), weight);
+        }
+      }
+
+      if (mix.isEmpty()) {
+        throw new IllegalArgumentException("loadTest.mix is empty");
+      }
+
+      return mix;
+    }
+  }
+}
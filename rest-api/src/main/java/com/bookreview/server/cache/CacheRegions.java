@@ -0,0 +1,18 @@
+package com.bookreview.server.cache;
+
+/* Hibernate 2차 캐시 영역 이름 (src/main/resources/application.conf 의 caffeine.jcache 설정과 같아야 함) */
+public final class CacheRegions {
+  public static final String REVIEW = "review"; // Review 엔티티
+  public static final String REPLY = "reply"; // Reply 엔티티
+  public static final String USER = "user"; // User 엔티티
+  public static final String REVIEW_SUMMARIES = "review-summaries"; // 도서별 리뷰 목록 쿼리 결과
+  public static final String USER_BY_USERNAME = "user-by-username"; // 사용자명으로 찾은 사용자 쿼리 결과
+  public static final String QUERY_RESULTS = "default-query-results-region"; // Hibernate 기본 쿼리 결과 영역
+  public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region"; // 테이블별 마지막 변경 시각 (쿼리 캐시 무효화에 사용, 제거되면 안 됨)
+
+  public static final String[] ALL = {
+      REVIEW, REPLY, USER, REVIEW_SUMMARIES, USER_BY_USERNAME, QUERY_RESULTS, UPDATE_TIMESTAMPS
+  };
+
+  private CacheRegions() {}
+}
@@ -0,0 +1,70 @@
+package com.bookreview.server.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+@RestController
+public class CacheStatsController { // 2차 캐시 영역별 적중/실패/제거 통계 (캐시 크기를 작업 세트에 맞출 때 사용)
+  private final EntityManagerFactory entityManagerFactory;
+  private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+  public CacheStatsController(EntityManagerFactory entityManagerFactory) {
+    this.entityManagerFactory = entityManagerFactory;
+  }
+
+  @GetMapping("/cache/stats")
+  public ResponseEntity<?> readCacheStats() {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    Map<String, Object> regions = new LinkedHashMap<>();
+
+    for (String region : CacheRegions.ALL) {
+      Map<String, Object> stats = new LinkedHashMap<>();
+      CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region); // Hibernate가 본 적중/실패/저장 수
+
+      if (regionStatistics != null) {
+        stats.put("hits", regionStatistics.getHitCount());
+        stats.put("misses", regionStatistics.getMissCount());
+        stats.put("puts", regionStatistics.getPutCount());
+      }
+
+      stats.put("evictions", evictions(region)); // 크기 제한이나 만료로 Caffeine이 제거한 항목 수
+      regions.put(region, stats);
+    }
+
+    Map<String, Object> body = new LinkedHashMap<>();
+    body.put("statisticsEnabled", statistics.isStatisticsEnabled());
+    body.put("queryCacheHits", statistics.getQueryCacheHitCount());
+    body.put("queryCacheMisses", statistics.getQueryCacheMissCount());
+    body.put("regions", regions);
+    return ResponseEntity.ok(body);
+  }
+
+  private long evictions(String region) { // JCache 통계 MBean (application.conf 의 monitoring.statistics) 에서 제거 수를 읽음
+    try {
+      Set<ObjectName> names = mBeanServer.queryNames(
+          new ObjectName("javax.cache:type=CacheStatistics,Cache=" + region + ",*"), null);
+      long evictions = 0;
+
+      for (ObjectName name : names) {
+        evictions += (Long) mBeanServer.getAttribute(name, "CacheEvictions");
+      }
+
+      return evictions;
+    } catch (JMException e) {
+      return -1; // 통계를 읽을 수 없음
+    }
+  }
+}
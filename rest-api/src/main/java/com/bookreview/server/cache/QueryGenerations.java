@@ -0,0 +1,39 @@
+package com.bookreview.server.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 도서별, 리뷰별 세대 번호. 캐시되는 목록 쿼리의 패러미터로 넘겨 쿼리 캐시 키에 포함시킴.
+ * JDBC 로 바꾼 변경은 Hibernate 가 알지 못하므로, 영역 전체를 비우는 대신 바뀐 도서(리뷰)의 세대만 올려 그 키만 다시 읽게 함.
+ * 이전 세대의 결과는 더 이상 조회되지 않고 영역의 크기 제한과 만료로 밀려남.
+ */
+@Component
+public class QueryGenerations {
+  private final AtomicLong counter = new AtomicLong(); // 모든 키가 함께 쓰는 증가값 → 맵에서 밀려났다 다시 만들어진 키도 이전에 쓴 값을 다시 받지 않음
+  private final Cache<Object, Long> generations;
+
+  public QueryGenerations(@Value("${bookreview.cache.generations.max-size:100000}") long maxSize) {
+    this.generations = Caffeine.newBuilder().maximumSize(maxSize).build();
+  }
+
+  public long book(String bookId) { // 도서별 목록, 목록 버전 쿼리용
+    return generations.get(bookId, key -> counter.incrementAndGet());
+  }
+
+  public long review(Long reviewId) { // 리뷰 한 개 조회, 버전 쿼리용
+    return generations.get(reviewId, key -> counter.incrementAndGet());
+  }
+
+  public void bookChanged(String bookId) { // 커밋 후 호출 (커밋 전에 올리면 다른 요청이 이전 값을 새 세대로 캐시할 수 있음)
+    generations.put(bookId, counter.incrementAndGet());
+  }
+
+  public void reviewChanged(Long reviewId) {
+    generations.put(reviewId, counter.incrementAndGet());
+  }
+}
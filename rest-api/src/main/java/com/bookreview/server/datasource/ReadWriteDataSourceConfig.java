@@ -0,0 +1,92 @@
+package com.bookreview.server.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * bookreview.datasource.replica-urls 가 있을 때만 켜지는 읽기/쓰기 분리 설정.
+ * 없으면 스프링 부트가 spring.datasource.* 로 만드는 DataSource 하나를 그대로 사용.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "bookreview.datasource", name = "replica-urls")
+public class ReadWriteDataSourceConfig {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari") // 기존 풀 설정(spring.datasource.hikari.*)은 primary 풀에 적용
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    dataSource.setPoolName("primary");
+    return dataSource;
+  }
+
+  @Bean(destroyMethod = "close")
+  public ReadWriteRoutingDataSource readWriteRoutingDataSource(HikariDataSource primaryDataSource, DataSourceProperties properties,
+      @Value("${bookreview.datasource.replica-urls}") String[] replicaUrls,
+      @Value("${bookreview.datasource.replica-username:${spring.datasource.username:}}") String username,
+      @Value("${bookreview.datasource.replica-password:${spring.datasource.password:}}") String password,
+      @Value("${bookreview.datasource.replica-pool-size:10}") int poolSize,
+      @Value("${bookreview.datasource.replica-connection-timeout-ms:1000}") long connectionTimeoutMs,
+      @Value("${bookreview.datasource.health-check-interval-ms:5000}") long healthCheckIntervalMs,
+      @Value("${bookreview.datasource.read-your-writes-ms:5000}") long readYourWritesMs) {
+    List<HikariDataSource> replicas = new ArrayList<>();
+
+    for (String url : replicaUrls) {
+      if (url.isBlank()) {
+        continue;
+      }
+
+      HikariDataSource replica = properties.initializeDataSourceBuilder().type(HikariDataSource.class)
+          .url(url.trim()).username(username).password(password).build();
+      replica.setPoolName("replica-" + (replicas.size() + 1));
+      replica.setMaximumPoolSize(poolSize);
+      replica.setConnectionTimeout(connectionTimeoutMs); // 내려간 복제본을 오래 기다리지 않고 다른 복제본이나 primary 로 넘어감
+      replica.setReadOnly(true);
+      replicas.add(replica);
+    }
+
+    ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primaryDataSource, replicas, readYourWritesMs);
+    routing.start(healthCheckIntervalMs);
+    return routing;
+  }
+
+  @Bean
+  @Primary // JPA, JdbcTemplate, 트랜잭션 관리자가 사용하는 DataSource
+  public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+    // 트랜잭션을 시작할 때가 아니라 첫 SQL 을 실행할 때 커넥션을 얻음 → 그때는 트랜잭션의 읽기 전용 여부가 정해져 있음
+    return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+  }
+
+  @Bean // 스프링 부트의 JpaTransactionManager 대신 사용 (복제본에서 읽는 트랜잭션은 2차 캐시와 쿼리 캐시를 쓰지 않음)
+  public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory, ReadWriteRoutingDataSource readWriteRoutingDataSource,
+      ObjectProvider<TransactionManagerCustomizers> customizers) {
+    ReplicaReadTransactionManager transactionManager = new ReplicaReadTransactionManager(entityManagerFactory, readWriteRoutingDataSource);
+    customizers.ifAvailable(customizer -> customizer.customize((TransactionManager) transactionManager)); // spring.transaction.* 설정 (PlatformTransactionManager 를 받는 메서드는 제거 예정)
+    return transactionManager;
+  }
+
+  @Bean
+  HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+    // 기본값(요청이 끝날 때까지 커넥션을 잡음)이면 open-in-view 요청에서 첫 트랜잭션의 커넥션을 이후 트랜잭션이 그대로 씀
+    // → 트랜잭션마다 커넥션을 반납하고 다시 얻어서 트랜잭션마다 primary/복제본을 고름
+    return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING, PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+  }
+}
@@ -0,0 +1,217 @@
+package com.bookreview.server.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 복제본에서, 그 외(쓰기 트랜잭션, 트랜잭션 밖)는 primary 에서 커넥션을 얻는 DataSource.
+ * 트랜잭션이 시작된 뒤 첫 SQL 에서 커넥션을 얻어야 읽기 전용 여부를 알 수 있으므로 LazyConnectionDataSourceProxy 로 감싸서 사용.
+ * 복제본은 정상인 것들 사이에서 돌아가며 고르고, 커넥션을 얻지 못하거나 상태 확인에 실패한 복제본은 다시 확인될 때까지 건너뜀 (모두 내려가면 primary).
+ * 사용자가 쓰기 트랜잭션을 커밋하면 read-your-writes 시간 동안 그 사용자의 읽기는 primary 에서 함 (복제 지연 때문에 방금 쓴 것이 안 보이지 않도록).
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+  private static final Logger log = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+  private final DataSource primary;
+  private final List<Replica> replicas = new ArrayList<>();
+  private final long readYourWritesMs;
+  private final AtomicInteger next = new AtomicInteger(); // 라운드 로빈 위치
+  private final Map<String, Long> recentWriters = new ConcurrentHashMap<>(); // 사용자 이름 → primary 에서 읽는 마지막 시각
+  private ScheduledExecutorService scheduler;
+
+  public ReadWriteRoutingDataSource(DataSource primary, List<? extends DataSource> replicas, long readYourWritesMs) {
+    this.primary = primary;
+    this.readYourWritesMs = readYourWritesMs;
+
+    for (int i = 0; i < replicas.size(); i++) {
+      this.replicas.add(new Replica("replica-" + (i + 1), replicas.get(i)));
+    }
+  }
+
+  public void start(long healthCheckIntervalMs) { // 복제본 상태를 주기적으로 확인 (내려간 복제본이 돌아오면 다시 사용)
+    scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "datasource-health");
+      thread.setDaemon(true);
+      return thread;
+    });
+    scheduler.scheduleWithFixedDelay(this::checkReplicas, healthCheckIntervalMs, healthCheckIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  public void close() throws IOException { // 복제본 풀을 닫음 (primary 풀은 따로 빈으로 관리)
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+
+    for (Replica replica : replicas) {
+      if (replica.dataSource instanceof Closeable closeable) {
+        closeable.close();
+      }
+    }
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return connection(null, null);
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return connection(username, password);
+  }
+
+  private Connection connection(String username, String password) throws SQLException {
+    if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !readsOwnWrite(currentUser())) {
+      for (int attempt = 0; attempt < replicas.size(); attempt++) {
+        Replica replica = nextHealthy();
+
+        if (replica == null) { // 모든 복제본이 내려감
+          break;
+        }
+
+        try {
+          return open(replica.dataSource, username, password);
+        } catch (SQLException e) {
+          replica.down(e);
+        }
+      }
+    } else if (TransactionSynchronizationManager.isActualTransactionActive() && TransactionSynchronizationManager.isSynchronizationActive()
+        && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      rememberWriterAfterCommit();
+    }
+
+    return open(primary, username, password);
+  }
+
+  public boolean routesReadsToReplica() { // 지금 시작하는 읽기 전용 트랜잭션이 복제본에서 읽을지 (ReplicaReadTransactionManager 가 캐시를 쓸지 정할 때)
+    return !readsOwnWrite(currentUser()) && healthyReplicas() > 0;
+  }
+
+  private static Connection open(DataSource dataSource, String username, String password) throws SQLException {
+    return username == null ? dataSource.getConnection() : dataSource.getConnection(username, password);
+  }
+
+  private Replica nextHealthy() {
+    int size = replicas.size();
+    int start = Math.floorMod(next.getAndIncrement(), size);
+
+    for (int i = 0; i < size; i++) {
+      Replica replica = replicas.get((start + i) % size);
+
+      if (replica.healthy) {
+        return replica;
+      }
+    }
+
+    return null;
+  }
+
+  private void rememberWriterAfterCommit() { // 쓰기 트랜잭션이 커밋되면 그 사용자의 다음 읽기를 잠시 primary 로 보냄
+    String user = currentUser();
+
+    if (user == null || readYourWritesMs <= 0) {
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        recentWriters.put(user, System.currentTimeMillis() + readYourWritesMs);
+      }
+    });
+  }
+
+  private boolean readsOwnWrite(String user) {
+    if (user == null) {
+      return false;
+    }
+
+    Long until = recentWriters.get(user);
+
+    if (until == null) {
+      return false;
+    }
+
+    if (until < System.currentTimeMillis()) {
+      recentWriters.remove(user, until);
+      return false;
+    }
+
+    return true;
+  }
+
+  private static String currentUser() { // 인증된 요청의 사용자 이름 (익명 요청이나 백그라운드 작업은 null)
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+    if (authentication == null || authentication instanceof AnonymousAuthenticationToken || !authentication.isAuthenticated()) {
+      return null;
+    }
+
+    return authentication.getName();
+  }
+
+  void checkReplicas() {
+    long now = System.currentTimeMillis();
+    recentWriters.values().removeIf(until -> until < now); // 지난 항목 정리
+
+    for (Replica replica : replicas) {
+      try (Connection connection = replica.dataSource.getConnection()) {
+        if (connection.isValid(1)) {
+          replica.up();
+        } else {
+          replica.down(null);
+        }
+      } catch (SQLException e) {
+        replica.down(e);
+      }
+    }
+  }
+
+  int healthyReplicas() {
+    return (int) replicas.stream().filter(replica -> replica.healthy).count();
+  }
+
+  private static final class Replica {
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean healthy = true;
+
+    private Replica(String name, DataSource dataSource) {
+      this.name = name;
+      this.dataSource = dataSource;
+    }
+
+    private void up() {
+      if (!healthy) {
+        healthy = true;
+        log.info("Read replica {} is back", name);
+      }
+    }
+
+    private void down(SQLException cause) {
+      if (healthy) {
+        healthy = false;
+        log.warn("Read replica {} is down; reading from the other replicas or the primary", name, cause);
+      }
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package com.bookreview.server.datasource;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+ * 복제본에서 읽는 읽기 전용 트랜잭션은 2차 캐시와 쿼리 캐시를 쓰지 않는 JPA 트랜잭션 관리자.
+ * 복제본은 primary 보다 늦으므로, 좋아요 flush 처럼 JDBC 로 바꾸고 캐시를 비운 직후에 복제본에서 읽은 이전 값을 다시 캐시하면
+ * 다음 변경까지(review 영역은 만료 없음) 모든 요청이 이전 값을 보게 됨. primary 에서 읽거나 쓰는 트랜잭션만 캐시를 채우고 읽음.
+ * CacheMode.GET 은 엔티티 캐시에는 넣지 않지만, Hibernate 6.4 의 쿼리 캐시는 GET 에서도 miss 결과를 넣으므로 IGNORE 를 씀.
+ */
+public class ReplicaReadTransactionManager extends JpaTransactionManager {
+  private final ReadWriteRoutingDataSource routing;
+  private final Object cacheModeKey = new Object(); // 트랜잭션이 끝나면 되돌릴 세션과 이전 CacheMode 를 묶어 두는 키
+
+  public ReplicaReadTransactionManager(EntityManagerFactory entityManagerFactory, ReadWriteRoutingDataSource routing) {
+    super(entityManagerFactory);
+    this.routing = routing;
+  }
+
+  @Override
+  protected void doBegin(Object transaction, TransactionDefinition definition) {
+    super.doBegin(transaction, definition);
+
+    if (!definition.isReadOnly() || !routing.routesReadsToReplica()) {
+      return;
+    }
+
+    EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(obtainEntityManagerFactory());
+    Session session = holder.getEntityManager().unwrap(Session.class);
+    TransactionSynchronizationManager.bindResource(cacheModeKey, new PreviousCacheMode(session, session.getCacheMode()));
+    session.setCacheMode(CacheMode.IGNORE); // 복제본에서 읽은 결과는 캐시에 넣지 않음
+  }
+
+  @Override
+  protected void doCleanupAfterCompletion(Object transaction) {
+    // open-in-view 에서는 요청의 다음 트랜잭션이 같은 세션을 쓰므로 되돌림
+    if (TransactionSynchronizationManager.unbindResourceIfPossible(cacheModeKey) instanceof PreviousCacheMode previous) {
+      previous.session().setCacheMode(previous.cacheMode());
+    }
+
+    super.doCleanupAfterCompletion(transaction);
+  }
+
+  private record PreviousCacheMode(Session session, CacheMode cacheMode) {
+  }
+}
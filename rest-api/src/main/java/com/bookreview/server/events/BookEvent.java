@@ -0,0 +1,3 @@
+package com.bookreview.server.events;
+
+record BookEvent(long id, String type, String data) {} // 한 도서에 일어난 변경 (data 는 발행할 때 한 번만 직렬화한 JSON)
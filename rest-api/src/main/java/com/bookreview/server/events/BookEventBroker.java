@@ -0,0 +1,306 @@
+package com.bookreview.server.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * 도서별 리뷰/답글/좋아요 변경을 SSE 구독자에게 보내는 브로커.
+ * 발행은 트랜잭션 커밋 후 구독자별 제한된 큐에 넣기만 하고, 실제 전송은 별도 스레드가 함 → 느린 클라이언트가 요청 스레드를 붙잡지 않음.
+ * 큐가 가득 찬 구독자는 연결을 끊고, 클라이언트는 Last-Event-ID 로 다시 연결해서 도서별 최근 이벤트 링 버퍼에서 이어 받음.
+ * 링에서 이미 밀려난 이벤트가 필요하면 reset 이벤트를 보내서 클라이언트가 목록을 다시 읽게 함.
+ */
+@Component
+public class BookEventBroker {
+  public static final String REVIEW_CREATED = "review.created";
+  public static final String REVIEW_UPDATED = "review.updated";
+  public static final String REVIEW_DELETED = "review.deleted";
+  public static final String REPLY_CREATED = "reply.created";
+  public static final String REPLY_UPDATED = "reply.updated";
+  public static final String REPLY_DELETED = "reply.deleted";
+  public static final String LIKE_CHANGED = "like";
+  static final String CONNECTED = "connected";
+  static final String RESET = "reset"; // 놓친 이벤트를 이어 보낼 수 없음 → 목록을 다시 읽어야 함
+
+  private static final Logger log = LoggerFactory.getLogger(BookEventBroker.class);
+
+  private final ObjectMapper objectMapper;
+  private final int maxSubscribers; // 동시에 열 수 있는 전체 SSE 연결 수
+  private final int bufferSize; // 구독자별로 보내지 못하고 쌓아 둘 수 있는 이벤트 수
+  private final int historySize; // 도서별로 Last-Event-ID 재연결을 위해 보관하는 최근 이벤트 수
+  private final long heartbeatMs; // 프록시가 유휴 연결을 끊지 않도록 보내는 주석 간격
+  private final long timeoutMs; // 연결 최대 유지 시간 (끝나면 브라우저가 Last-Event-ID 로 다시 연결)
+
+  private final ConcurrentHashMap<String, Channel> channels = new ConcurrentHashMap<>(); // 도서 ID별 구독자와 최근 이벤트
+  private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis() * 1000); // 재시작 후에도 커지는 이벤트 ID (이전 프로세스의 ID는 reset 으로 처리)
+  private final AtomicInteger subscriberCount = new AtomicInteger();
+  private ExecutorService sender; // 구독자 큐를 비우며 실제로 쓰는 스레드
+  private ScheduledExecutorService heartbeat;
+
+  public BookEventBroker(ObjectMapper objectMapper,
+      @Value("${bookreview.events.max-subscribers:1000}") int maxSubscribers,
+      @Value("${bookreview.events.buffer-size:64}") int bufferSize,
+      @Value("${bookreview.events.history-size:100}") int historySize,
+      @Value("${bookreview.events.heartbeat-ms:15000}") long heartbeatMs,
+      @Value("${bookreview.events.timeout-ms:1800000}") long timeoutMs) {
+    this.objectMapper = objectMapper;
+    this.maxSubscribers = maxSubscribers;
+    this.bufferSize = bufferSize;
+    this.historySize = historySize;
+    this.heartbeatMs = heartbeatMs;
+    this.timeoutMs = timeoutMs;
+  }
+
+  @PostConstruct
+  public void start() {
+    AtomicInteger threads = new AtomicInteger();
+    sender = Executors.newFixedThreadPool(2, runnable -> {
+      Thread thread = new Thread(runnable, "book-events-" + threads.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "book-events-heartbeat");
+      thread.setDaemon(true);
+      return thread;
+    });
+    heartbeat.scheduleWithFixedDelay(this::heartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stop() {
+    heartbeat.shutdownNow();
+    channels.values().forEach(channel -> channel.subscribers.forEach(Subscriber::close)); // 종료시 연결을 닫아 클라이언트가 다른 서버로 다시 연결하게 함
+    sender.shutdown();
+  }
+
+  public void publish(String bookId, String type, Object payload) { // 트랜잭션 안이면 커밋된 뒤에, 밖이면 바로 보냄
+    if (bookId == null) {
+      return;
+    }
+
+    String data;
+
+    try {
+      data = objectMapper.writeValueAsString(payload); // 구독자 수와 관계없이 한 번만 직렬화
+    } catch (JsonProcessingException e) {
+      log.warn("Could not serialize {} event for book {}", type, bookId, e);
+      return;
+    }
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      dispatch(bookId, type, data);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() { // 롤백된 변경은 보내지 않음
+        dispatch(bookId, type, data);
+      }
+    });
+  }
+
+  public SseEmitter subscribe(String bookId, Long lastEventId) { // 구독자 수 제한을 넘으면 null
+    if (subscriberCount.incrementAndGet() > maxSubscribers) {
+      subscriberCount.decrementAndGet();
+      return null;
+    }
+
+    SseEmitter emitter = new SseEmitter(timeoutMs);
+    Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(bufferSize + historySize + 2)); // 재연결시 링 전체를 이어 보낼 수 있는 크기
+    Channel channel = lockChannel(bookId);
+    emitter.onCompletion(() -> unsubscribe(channel, subscriber));
+    emitter.onTimeout(() -> unsubscribe(channel, subscriber));
+    emitter.onError(error -> unsubscribe(channel, subscriber));
+
+    try { // 링을 읽는 동안 발행을 막아서 이어 보내는 이벤트와 새 이벤트 사이에 빠지거나 겹치는 것이 없게 함
+      if (lastEventId == null) { // 처음 연결: 지금까지의 ID를 알려 줘서 끊겼다가 다시 연결할 때 그 사이 이벤트를 이어 받게 함
+        subscriber.offer(SseEmitter.event().id(String.valueOf(sequence.get())).name(CONNECTED).data("{}", MediaType.APPLICATION_JSON).reconnectTime(3000));
+      } else if (lastEventId < channel.evictedUpTo) { // 이미 링에서 밀려났거나 채널이 생기기 전(이전 프로세스 포함)의 ID
+        subscriber.offer(SseEmitter.event().id(String.valueOf(sequence.get())).name(RESET).data("{}", MediaType.APPLICATION_JSON).reconnectTime(3000));
+      } else {
+        for (BookEvent event : channel.history) {
+          if (event.id() > lastEventId) {
+            subscriber.offer(toSse(event));
+          }
+        }
+      }
+
+      channel.subscribers.add(subscriber);
+    } finally {
+      channel.lock.unlock();
+    }
+
+    schedule(subscriber);
+    return emitter;
+  }
+
+  int subscriberCount() {
+    return subscriberCount.get();
+  }
+
+  private void dispatch(String bookId, String type, String data) {
+    Channel channel = lockChannel(bookId);
+    List<Subscriber> targets;
+    BookEvent event;
+
+    try {
+      event = new BookEvent(sequence.incrementAndGet(), type, data);
+      channel.history.addLast(event);
+      channel.lastEventAt = System.currentTimeMillis();
+
+      if (channel.history.size() > historySize) {
+        channel.evictedUpTo = channel.history.removeFirst().id();
+      }
+
+      targets = new ArrayList<>(channel.subscribers);
+
+      for (Subscriber subscriber : targets) { // 큐에 넣기만 하므로 잠금을 짧게 쥠
+        if (!subscriber.offer(toSse(event))) {
+          log.debug("Dropping slow subscriber of book {}", bookId);
+          subscriber.overflowed.set(true);
+        }
+      }
+    } finally {
+      channel.lock.unlock();
+    }
+
+    targets.forEach(this::schedule);
+  }
+
+  private void heartbeat() { // 연결을 유지하고, 끊긴 연결은 쓰다가 실패하면 정리
+    long idleBefore = System.currentTimeMillis() - timeoutMs;
+
+    channels.forEach((bookId, channel) -> {
+      for (Subscriber subscriber : channel.subscribers) {
+        subscriber.offer(SseEmitter.event().comment("heartbeat"));
+        schedule(subscriber);
+      }
+
+      channel.lock.lock();
+      try {
+        if (channel.subscribers.isEmpty() && channel.lastEventAt < idleBefore) { // 오래 조용한 도서는 링을 버림 (재연결하면 reset)
+          channel.retired = true;
+          channels.remove(bookId, channel);
+        }
+      } finally {
+        channel.lock.unlock();
+      }
+    });
+  }
+
+  private Channel lockChannel(String bookId) { // 도서의 채널을 잠가서 반환 (heartbeat 가 막 제거한 채널이면 새로 만듦)
+    while (true) {
+      Channel channel = channels.computeIfAbsent(bookId, id -> new Channel(sequence.get()));
+      channel.lock.lock();
+
+      if (!channel.retired) {
+        return channel;
+      }
+
+      channel.lock.unlock();
+    }
+  }
+
+  private void schedule(Subscriber subscriber) { // 구독자마다 한 스레드만 큐를 비움 (이벤트 순서 유지)
+    if (subscriber.draining.compareAndSet(false, true)) {
+      sender.execute(() -> drain(subscriber));
+    }
+  }
+
+  private void drain(Subscriber subscriber) {
+    try {
+      SseEmitter.SseEventBuilder event;
+
+      while ((event = subscriber.queue.poll()) != null) {
+        subscriber.emitter.send(event);
+      }
+
+      if (subscriber.overflowed.get()) { // 큐가 넘친 구독자는 보낸 데까지만 받고 다시 연결
+        subscriber.close();
+      }
+    } catch (IOException | IllegalStateException e) { // 클라이언트가 끊었거나 이미 끝난 연결
+      subscriber.close();
+    } finally {
+      subscriber.draining.set(false);
+    }
+
+    if (!subscriber.queue.isEmpty() && !subscriber.closed.get()) { // 비우는 사이에 들어온 이벤트
+      schedule(subscriber);
+    }
+  }
+
+  private void unsubscribe(Channel channel, Subscriber subscriber) { // 완료, 시간 초과, 오류 콜백에서 한 번만 정리
+    if (subscriber.closed.compareAndSet(false, true)) {
+      channel.subscribers.remove(subscriber);
+      subscriberCount.decrementAndGet();
+    }
+  }
+
+  private static SseEmitter.SseEventBuilder toSse(BookEvent event) {
+    return SseEmitter.event().id(String.valueOf(event.id())).name(event.type()).data(event.data(), MediaType.APPLICATION_JSON);
+  }
+
+  private static final class Channel { // 한 도서의 구독자와 최근 이벤트
+    final ReentrantLock lock = new ReentrantLock();
+    final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    final ArrayDeque<BookEvent> history = new ArrayDeque<>(); // 최근 이벤트 링 (오래된 것부터 밀려남)
+    long evictedUpTo; // 링에서 밀려난 마지막 이벤트 ID (이보다 오래된 Last-Event-ID 는 이어 받을 수 없음)
+    long lastEventAt = System.currentTimeMillis();
+    boolean retired; // 맵에서 제거되어 더 이상 사용하지 않는 채널
+
+    Channel(long evictedUpTo) { // 채널이 생기기 전의 이벤트는 없으므로 지금까지의 ID는 모두 밀려난 것으로 취급
+      this.evictedUpTo = evictedUpTo;
+    }
+  }
+
+  private static final class Subscriber {
+    final SseEmitter emitter;
+    final BlockingQueue<SseEmitter.SseEventBuilder> queue; // 보내지 못한 이벤트 (가득 차면 연결을 끊음)
+    final AtomicBoolean draining = new AtomicBoolean();
+    final AtomicBoolean overflowed = new AtomicBoolean();
+    final AtomicBoolean closed = new AtomicBoolean();
+
+    Subscriber(SseEmitter emitter, BlockingQueue<SseEmitter.SseEventBuilder> queue) {
+      this.emitter = emitter;
+      this.queue = queue;
+    }
+
+    boolean offer(SseEmitter.SseEventBuilder event) {
+      return !closed.get() && queue.offer(event);
+    }
+
+    void close() {
+      if (!closed.get()) {
+        emitter.complete(); // onCompletion 에서 구독을 해제
+      }
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.bookreview.server.events;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+public class BookEventController {
+  static final String LAST_EVENT_ID = "Last-Event-ID"; // 브라우저 EventSource 가 다시 연결할 때 보내는 마지막 이벤트 ID
+
+  private final BookEventBroker broker;
+
+  public BookEventController(BookEventBroker broker) {
+    this.broker = broker;
+  }
+
+  @GetMapping(value = "/books/{bookId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public ResponseEntity<SseEmitter> subscribe(@PathVariable String bookId, @RequestHeader(value = LAST_EVENT_ID, required = false) String lastEventId) { // 도서 상세 화면: 목록을 주기적으로 다시 읽는 대신 변경을 받음
+    Long lastId;
+
+    try {
+      lastId = lastEventId == null || lastEventId.isBlank() ? null : Long.valueOf(lastEventId);
+    } catch (NumberFormatException e) {
+      lastId = 0L; // 알 수 없는 ID → reset 을 받고 목록을 다시 읽음
+    }
+
+    SseEmitter emitter = broker.subscribe(bookId, lastId);
+
+    if (emitter == null) { // 구독자 수 제한 → 클라이언트는 잠시 후 다시 연결 (그동안은 목록 조회로 대신)
+      return ResponseEntity.status(503).header(HttpHeaders.RETRY_AFTER, "30").build();
+    }
+
+    return ResponseEntity.ok().header("X-Accel-Buffering", "no").body(emitter); // 프록시(nginx)가 이벤트를 모아서 보내지 않도록
+  }
+}
@@ -0,0 +1,56 @@
+package com.bookreview.server.export;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+public class ExportController { // 관리용 내보내기 (bookreview.admin.usernames 의 관리자만, JwtSecurityConfig 에서 확인)
+  static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+  private final ExportService exportService;
+
+  public ExportController(ExportService exportService) {
+    this.exportService = exportService;
+  }
+
+  @GetMapping("/admin/export/reviews")
+  public ResponseEntity<StreamingResponseBody> exportReviews(@RequestParam String bookId, @RequestParam(defaultValue = "json") String format) { // 도서의 모든 리뷰 (오래된순)
+    if (!isValid(format)) {
+      return ResponseEntity.badRequest().build();
+    }
+
+    boolean ndjson = format.equals("ndjson");
+    return respond(exportService.reviews(bookId, ndjson), "reviews-" + bookId, ndjson);
+  }
+
+  @GetMapping("/admin/export/replies")
+  public ResponseEntity<StreamingResponseBody> exportReplies(@RequestParam(required = false) String bookId, @RequestParam(defaultValue = "json") String format) { // 모든 답글 또는 도서의 답글 (ID순)
+    if (!isValid(format)) {
+      return ResponseEntity.badRequest().build();
+    }
+
+    boolean ndjson = format.equals("ndjson");
+    return respond(exportService.replies(bookId, ndjson), bookId == null ? "replies" : "replies-" + bookId, ndjson);
+  }
+
+  private static boolean isValid(String format) {
+    return format.equals("json") || format.equals("ndjson");
+  }
+
+  private static ResponseEntity<StreamingResponseBody> respond(StreamingResponseBody body, String name, boolean ndjson) {
+    if (body == null) { // 이미 최대 수만큼 내보내는 중
+      return ResponseEntity.status(503).header(HttpHeaders.RETRY_AFTER, "10").build();
+    }
+
+    return ResponseEntity.ok()
+        .contentType(ndjson ? NDJSON : MediaType.APPLICATION_JSON)
+        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(name + (ndjson ? ".ndjson" : ".json")).build().toString())
+        .body(body);
+  }
+}
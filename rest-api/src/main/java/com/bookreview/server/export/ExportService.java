@@ -0,0 +1,139 @@
+package com.bookreview.server.export;
+
+import com.bookreview.server.reply.ReplyRepository;
+import com.bookreview.server.reply.ReplySummary;
+import com.bookreview.server.review.ReviewRepository;
+import com.bookreview.server.review.ReviewSummary;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/*
+ * 도서의 전체 리뷰나 전체 답글을 목록으로 모으지 않고 DB 커서에서 한 행씩 읽어 바로 응답에 쓰는 내보내기.
+ * 엔티티 대신 목록 조회와 같은 요약 레코드로 읽으므로 영속성 컨텍스트에 쌓이는 것이 없어 내보내는 양과 관계없이 힙 사용량이 일정함.
+ */
+@Service
+public class ExportService {
+  static final int FLUSH_EVERY = 500; // 이 행 수마다 응답을 flush 해서 클라이언트가 바로 받기 시작하게 함
+
+  private static final String REVIEWS = ReviewRepository.SUMMARY + " where r.bookId = :bookId order by r.createdAt asc, r.id asc";
+  private static final String REPLIES = ReplyRepository.SUMMARY + " order by r.id asc";
+  private static final String BOOK_REPLIES = ReplyRepository.SUMMARY + " where r.review.bookId = :bookId order by r.id asc";
+
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectWriter writer;
+  private final int fetchSize;
+  private final Semaphore permits; // 내보내기마다 끝날 때까지 커넥션을 하나 쥐므로 동시에 실행하는 수를 제한
+
+  public ExportService(EntityManager entityManager, PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+      @Value("${spring.datasource.url:}") String datasourceUrl,
+      @Value("${bookreview.export.fetch-size:500}") int fetchSize,
+      @Value("${bookreview.export.max-concurrent:2}") int maxConcurrent) {
+    this.entityManager = entityManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true); // 변경 감지와 flush 없음
+    this.writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET); // 응답 스트림은 컨테이너가 닫음
+    // MySQL Connector/J 는 fetch size 가 Integer.MIN_VALUE 일 때만 결과를 한 행씩 스트리밍 (그 외에는 결과 전체를 메모리에 읽음)
+    this.fetchSize = datasourceUrl.startsWith("jdbc:mysql:") ? Integer.MIN_VALUE : fetchSize;
+    this.permits = new Semaphore(maxConcurrent);
+  }
+
+  public StreamingResponseBody reviews(String bookId, boolean ndjson) { // 동시에 실행 중인 내보내기가 많으면 null
+    return export(REVIEWS, Map.of("bookId", bookId), ReviewSummary.class, ndjson);
+  }
+
+  public StreamingResponseBody replies(String bookId, boolean ndjson) { // bookId가 없으면 모든 답글
+    return bookId == null
+        ? export(REPLIES, Map.of(), ReplySummary.class, ndjson)
+        : export(BOOK_REPLIES, Map.of("bookId", bookId), ReplySummary.class, ndjson);
+  }
+
+  private <T> StreamingResponseBody export(String jpql, Map<String, Object> parameters, Class<T> type, boolean ndjson) {
+    if (!permits.tryAcquire()) { // 503 을 보내려면 응답 전에 알아야 하므로 요청 스레드에서 얻음
+      return null;
+    }
+
+    AtomicBoolean released = new AtomicBoolean();
+    Runnable release = () -> {
+      if (released.compareAndSet(false, true)) { // 본문과 요청 완료 콜백 중 먼저 끝난 쪽이 한 번만 돌려줌
+        permits.release();
+      }
+    };
+    releaseOnRequestCompletion(release);
+
+    return out -> { // 요청 스레드가 아니라 MVC 비동기 스레드에서 실행
+      try {
+        transactionTemplate.executeWithoutResult(status -> write(jpql, parameters, type, ndjson, out)); // 읽는 동안 커서가 열려 있도록 트랜잭션 안에서 씀
+      } finally {
+        release.run();
+      }
+    };
+  }
+
+  private static void releaseOnRequestCompletion(Runnable release) { // 본문이 실행되지 않고 비동기 요청이 끝나도(타임아웃, 연결 끊김, 실행 거절) 허가를 돌려줌
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+    if (!(attributes instanceof ServletRequestAttributes servletAttributes)) { // 요청 밖에서 호출되면 본문의 finally 만
+      return;
+    }
+
+    WebAsyncUtils.getAsyncManager(servletAttributes.getRequest()).registerCallableInterceptor(release, new CallableProcessingInterceptor() {
+      @Override
+      public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+        release.run();
+      }
+    });
+  }
+
+  private <T> void write(String jpql, Map<String, Object> parameters, Class<T> type, boolean ndjson, OutputStream out) {
+    TypedQuery<T> query = entityManager.createQuery(jpql, type)
+        .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+        .setHint(HibernateHints.HINT_READ_ONLY, true);
+    parameters.forEach(query::setParameter);
+
+    try (Stream<T> rows = query.getResultStream(); // ScrollableResults 기반 → 다 읽기 전에 쓰기 시작
+        SequenceWriter values = ndjson ? writer.withRootValueSeparator("\n").writeValues(out) : writer.writeValuesAsArray(out)) {
+      int count = 0;
+
+      for (T row : (Iterable<T>) rows::iterator) {
+        values.write(row);
+
+        if (++count % FLUSH_EVERY == 0) {
+          values.flush();
+        }
+      }
+
+      if (ndjson && count > 0) {
+        values.flush();
+        out.write('\n'); // NDJSON 은 마지막 줄도 줄바꿈으로 끝냄
+      }
+    } catch (IOException e) { // 클라이언트가 중간에 끊음
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package com.bookreview.server.importer;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+public class ImportController { // 관리용 가져오기 (bookreview.admin.usernames 의 관리자만, JwtSecurityConfig 에서 확인)
+  private final ReviewImporter importer;
+
+  public ImportController(ReviewImporter importer) {
+    this.importer = importer;
+  }
+
+  @PostMapping("/admin/import")
+  public ResponseEntity<?> importReviews(InputStream body) throws IOException { // 본문은 NDJSON (한 줄에 리뷰 하나), 끝날 때까지 응답하지 않음
+    try {
+      return ResponseEntity.ok(importer.importReviews(body));
+    } catch (IllegalStateException e) { // 이미 가져오는 중
+      return ResponseEntity.status(409).body(e.getMessage());
+    }
+  }
+
+  @GetMapping("/admin/import")
+  public ResponseEntity<?> progress() { // 진행 중인 가져오기의 진행 상황 (끝났으면 마지막 결과)
+    ImportReport report = importer.progress();
+    return report == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(report);
+  }
+}
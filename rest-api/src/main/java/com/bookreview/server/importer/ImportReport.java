@@ -0,0 +1,8 @@
+package com.bookreview.server.importer;
+
+import java.util.List;
+
+// 가져오기 진행 상황: 읽은 줄 수, 커밋된 리뷰/답글/좋아요 수, 실패한 줄 수와 앞쪽 실패 줄의 사유 (running 이 false 면 끝난 결과)
+public record ImportReport(boolean running, long lines, long reviews, long replies, long likes, long failed, List<RowError> errors) {
+  public record RowError(long line, String message) {}
+}
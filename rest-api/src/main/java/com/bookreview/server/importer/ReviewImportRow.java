@@ -0,0 +1,9 @@
+package com.bookreview.server.importer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 가져오기 NDJSON 의 한 줄: 리뷰 하나와 그 답글, 좋아요를 누른 사용자 ID (작성 시각이 없으면 가져온 시각)
+public record ReviewImportRow(String bookId, String username, String content, LocalDateTime createdAt, List<String> likes, List<Reply> replies) {
+  public record Reply(String username, String content, LocalDateTime createdAt) {}
+}
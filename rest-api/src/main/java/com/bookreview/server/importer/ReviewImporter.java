@@ -0,0 +1,454 @@
+package com.bookreview.server.importer;
+
+import com.bookreview.server.cache.CacheRegions;
+import com.bookreview.server.review.BookReviewStatsStore;
+import com.bookreview.server.review.TopReviews;
+import com.bookreview.server.search.ReviewSearchIndex;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/*
+ * NDJSON 으로 받은 리뷰(답글, 좋아요 포함)를 요청 본문에서 한 줄씩 읽어 batch-size 개마다 JDBC 배치로 넣고 커밋하는 가져오기.
+ * 리뷰와 답글 ID 는 IDENTITY 라서 Hibernate 는 배치로 넣지 못하므로, 배치 INSERT 의 생성 키로 ID 를 받아 답글과 좋아요를 이어서 넣음.
+ * 잘못된 줄은 건너뛰고 사유를 기록하며, 배치가 DB 에서 실패하면 그 배치만 되돌리고 한 줄씩 다시 넣어 실패한 줄만 걸러냄.
+ */
+@Service
+public class ReviewImporter {
+  static final int MAX_REPORTED_ERRORS = 100; // 응답에 사유를 담는 실패 줄 수 (실패 수는 모두 셈)
+  private static final int MAX_MESSAGE_LENGTH = 200;
+  private static final int USERS_PER_QUERY = 500; // 사용자 이름 IN 목록의 최대 크기
+
+  private static final String FIND_USERS = "SELECT id, username FROM users WHERE username IN (%s)";
+  private static final String INSERT_REVIEW = "INSERT INTO review (book_id, content, created_at, like_count, reply_count, user_id, version) VALUES (?, ?, ?, ?, ?, ?, 0)";
+  private static final String INSERT_REPLY = "INSERT INTO reply (content, created_at, review_id, user_id, version) VALUES (?, ?, ?, ?, 0)";
+  private static final String INSERT_LIKE = "INSERT INTO review_like (review_id, user_id) VALUES (?, ?)";
+
+  private static final Logger log = LoggerFactory.getLogger(ReviewImporter.class);
+
+  private final HikariDataSource dataSource;
+  private final ObjectReader reader;
+  private final ReviewSearchIndex searchIndex;
+  private final EntityManagerFactory entityManagerFactory;
+  private final TopReviews topReviews;
+  private final int batchSize;
+  private final ReentrantLock running = new ReentrantLock(); // 가져오기는 한 번에 하나만
+  private volatile Progress progress; // 진행 중이거나 마지막으로 끝난 가져오기
+
+  public ReviewImporter(DataSourceProperties dataSourceProperties, ObjectMapper objectMapper, ReviewSearchIndex searchIndex, EntityManagerFactory entityManagerFactory,
+      TopReviews topReviews, @Value("${bookreview.import.batch-size:500}") int batchSize) {
+    this.dataSource = importDataSource(dataSourceProperties);
+    this.reader = objectMapper.readerFor(ReviewImportRow.class);
+    this.searchIndex = searchIndex;
+    this.entityManagerFactory = entityManagerFactory;
+    this.topReviews = topReviews;
+    this.batchSize = batchSize;
+  }
+
+  private static HikariDataSource importDataSource(DataSourceProperties properties) {
+    String url = properties.determineUrl();
+
+    // MySQL Connector/J 는 rewriteBatchedStatements 가 있어야 배치를 여러 행 INSERT 하나로 보냄 (없으면 행마다 왕복)
+    // 이 옵션은 배치의 행별 결과를 -2(SUCCESS_NO_INFO)로 바꾸므로 영향받은 행 수를 쓰는 ReviewLikeStore 가 있는 기본 풀이 아니라 가져오기 전용 풀에만 켬
+    if (url != null && url.startsWith("jdbc:mysql:")) {
+      url += (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true";
+    }
+
+    HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).url(url).build();
+    dataSource.setPoolName("import");
+    dataSource.setMaximumPoolSize(1);
+    dataSource.setMinimumIdle(0); // 가져오기가 없을 때는 커넥션을 잡고 있지 않음
+    dataSource.setIdleTimeout(60_000);
+    return dataSource;
+  }
+
+  @PreDestroy
+  public void close() {
+    dataSource.close();
+  }
+
+  public ImportReport progress() { // 진행 중이거나 마지막 가져오기의 결과, 한 번도 실행하지 않았으면 null
+    Progress current = progress;
+    return current == null ? null : current.report();
+  }
+
+  public ImportReport importReviews(InputStream in) throws IOException { // 이미 가져오는 중이면 IllegalStateException
+    if (!running.tryLock()) {
+      throw new IllegalStateException("Import already running");
+    }
+
+    Progress current = new Progress();
+    progress = current;
+
+    try (BufferedReader lines = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      Map<String, Long> userIds = new HashMap<>(); // 가져오는 동안 찾은 사용자 이름 → ID
+      List<Row> chunk = new ArrayList<>(batchSize);
+      String line;
+      long number = 0;
+
+      while ((line = lines.readLine()) != null) { // 본문 전체를 읽지 않고 한 줄씩 처리
+        number++;
+        current.line();
+
+        if (line.isBlank()) {
+          continue;
+        }
+
+        try {
+          chunk.add(new Row(number, validate(reader.readValue(line))));
+        } catch (JsonProcessingException e) {
+          current.fail(number, e.getOriginalMessage());
+          continue;
+        } catch (IllegalArgumentException e) {
+          current.fail(number, e.getMessage());
+          continue;
+        }
+
+        if (chunk.size() == batchSize) {
+          flush(connection, chunk, userIds, current);
+          chunk.clear();
+        }
+      }
+
+      flush(connection, chunk, userIds, current);
+    } catch (SQLException e) { // 커넥션이 끊김 (줄마다의 실패는 flush 에서 기록하고 계속함)
+      throw new DataAccessResourceFailureException("Import failed after " + current.report().reviews() + " reviews", e);
+    } finally {
+      current.finish();
+      running.unlock();
+    }
+
+    ImportReport report = current.report();
+    log.info("Import finished: {} lines, {} reviews, {} replies, {} likes, {} failed",
+        report.lines(), report.reviews(), report.replies(), report.likes(), report.failed());
+    return report;
+  }
+
+  private static ReviewImportRow validate(ReviewImportRow row) {
+    if (row == null || isBlank(row.bookId()) || isBlank(row.username()) || isBlank(row.content())) {
+      throw new IllegalArgumentException("bookId, username and content are required");
+    }
+
+    if (row.replies() != null) {
+      for (ReviewImportRow.Reply reply : row.replies()) {
+        if (reply == null || isBlank(reply.username()) || isBlank(reply.content())) {
+          throw new IllegalArgumentException("Reply username and content are required");
+        }
+      }
+    }
+
+    return row;
+  }
+
+  private static boolean isBlank(String value) {
+    return value == null || value.isBlank();
+  }
+
+  private void flush(Connection connection, List<Row> chunk, Map<String, Long> userIds, Progress progress) throws SQLException {
+    if (chunk.isEmpty()) {
+      return;
+    }
+
+    resolveUsers(connection, chunk, userIds);
+    List<Row> rows = new ArrayList<>(chunk.size());
+
+    for (Row row : chunk) {
+      String unknown = row.unknownUser(userIds);
+
+      if (unknown == null) {
+        rows.add(row);
+      } else {
+        progress.fail(row.line, "Unknown user: " + unknown);
+      }
+    }
+
+    if (rows.isEmpty()) {
+      return;
+    }
+
+    try {
+      insert(connection, rows, userIds);
+      connection.commit();
+      committed(rows, progress);
+    } catch (SQLException e) {
+      connection.rollback();
+
+      for (Row row : rows) { // 어느 줄이 실패했는지 알 수 없으므로 한 줄씩 다시 넣음
+        try {
+          insert(connection, List.of(row), userIds);
+          connection.commit();
+          committed(List.of(row), progress);
+        } catch (SQLException rowError) {
+          connection.rollback();
+          progress.fail(row.line, rowError.getMessage());
+        }
+      }
+    }
+
+    ImportReport report = progress.report();
+    log.info("Imported {} reviews ({} lines read, {} failed)", report.reviews(), report.lines(), report.failed());
+  }
+
+  private static void resolveUsers(Connection connection, List<Row> chunk, Map<String, Long> userIds) throws SQLException { // 처음 보는 사용자 이름만 IN 조회로 한 번에 찾음
+    Set<String> missing = new LinkedHashSet<>();
+
+    for (Row row : chunk) {
+      row.usernames().filter(username -> !userIds.containsKey(username)).forEach(missing::add);
+    }
+
+    List<String> usernames = new ArrayList<>(missing);
+
+    for (int from = 0; from < usernames.size(); from += USERS_PER_QUERY) {
+      List<String> part = usernames.subList(from, Math.min(from + USERS_PER_QUERY, usernames.size()));
+
+      try (PreparedStatement statement = connection.prepareStatement(FIND_USERS.formatted(String.join(", ", Collections.nCopies(part.size(), "?"))))) {
+        for (int i = 0; i < part.size(); i++) {
+          statement.setString(i + 1, part.get(i));
+        }
+
+        try (ResultSet users = statement.executeQuery()) {
+          while (users.next()) {
+            userIds.put(users.getString(2), users.getLong(1));
+          }
+        }
+      }
+    }
+
+    connection.commit(); // 조회만 했으므로 트랜잭션만 닫음
+  }
+
+  private static void insert(Connection connection, List<Row> rows, Map<String, Long> userIds) throws SQLException {
+    try (PreparedStatement reviews = connection.prepareStatement(INSERT_REVIEW, Statement.RETURN_GENERATED_KEYS)) {
+      for (Row row : rows) {
+        reviews.setString(1, row.review.bookId());
+        reviews.setString(2, row.review.content());
+        reviews.setTimestamp(3, Timestamp.valueOf(row.createdAt));
+        reviews.setLong(4, row.likes.size());
+        reviews.setLong(5, row.replies.size());
+        reviews.setLong(6, userIds.get(row.review.username()));
+        reviews.addBatch();
+      }
+
+      reviews.executeBatch();
+      readKeys(reviews, rows.size(), (i, id) -> rows.get(i).reviewId = id);
+    }
+
+    List<Row.PendingReply> replies = rows.stream().flatMap(row -> row.replies.stream()).toList();
+
+    if (!replies.isEmpty()) {
+      try (PreparedStatement statement = connection.prepareStatement(INSERT_REPLY, Statement.RETURN_GENERATED_KEYS)) { // 답글 ID 는 검색 색인에 씀
+        for (Row.PendingReply reply : replies) {
+          statement.setString(1, reply.reply.content());
+          statement.setTimestamp(2, Timestamp.valueOf(reply.createdAt));
+          statement.setLong(3, reply.row.reviewId);
+          statement.setLong(4, userIds.get(reply.reply.username()));
+          statement.addBatch();
+        }
+
+        statement.executeBatch();
+        readKeys(statement, replies.size(), (i, id) -> replies.get(i).replyId = id);
+      }
+    }
+
+    if (rows.stream().anyMatch(row -> !row.likes.isEmpty())) {
+      try (PreparedStatement statement = connection.prepareStatement(INSERT_LIKE)) {
+        for (Row row : rows) {
+          for (String userId : row.likes) {
+            statement.setLong(1, row.reviewId);
+            statement.setString(2, userId);
+            statement.addBatch();
+          }
+        }
+
+        statement.executeBatch();
+      }
+    }
+
+    try (PreparedStatement statement = connection.prepareStatement(BookReviewStatsStore.REVIEWS_IMPORTED)) { // 도서별 목록 요약도 같은 트랜잭션에서
+      Map<String, BookTotals> books = new HashMap<>();
+
+      for (Row row : rows) {
+        books.computeIfAbsent(row.review.bookId(), bookId -> new BookTotals()).add(row);
+      }
+
+      for (Map.Entry<String, BookTotals> book : books.entrySet()) {
+        BookTotals totals = book.getValue();
+        Timestamp latest = Timestamp.valueOf(totals.latest);
+        statement.setString(1, book.getKey());
+        statement.setLong(2, totals.reviews);
+        statement.setLong(3, totals.likes);
+        statement.setTimestamp(4, latest);
+        statement.setLong(5, totals.reviews);
+        statement.setLong(6, totals.likes);
+        statement.setTimestamp(7, latest);
+        statement.setTimestamp(8, latest);
+        statement.addBatch();
+      }
+
+      statement.executeBatch();
+    }
+  }
+
+  private interface KeyConsumer {
+    void accept(int index, long id);
+  }
+
+  private static void readKeys(PreparedStatement statement, int expected, KeyConsumer consumer) throws SQLException { // 배치의 생성 키는 넣은 순서대로 나옴
+    try (ResultSet keys = statement.getGeneratedKeys()) {
+      int i = 0;
+
+      while (keys.next()) {
+        consumer.accept(i++, keys.getLong(1));
+      }
+
+      if (i != expected) {
+        throw new SQLException("Expected " + expected + " generated keys but got " + i);
+      }
+    }
+  }
+
+  private void committed(List<Row> rows, Progress progress) { // 커밋된 행을 검색 색인에 넣고 캐시된 리뷰 목록을 비움 (JDBC 변경은 Hibernate 가 알지 못함)
+    for (Row row : rows) {
+      searchIndex.indexReview(row.reviewId, row.review.bookId(), row.review.content(), row.createdAt);
+
+      for (Row.PendingReply reply : row.replies) {
+        searchIndex.indexReply(reply.replyId, row.reviewId, row.review.bookId(), reply.reply.content(), reply.createdAt);
+      }
+
+      progress.committed(row);
+    }
+
+    entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegion(CacheRegions.REVIEW_SUMMARIES);
+    topReviews.invalidateAll(); // 좋아요가 있는 리뷰가 들어오면 메모리의 좋아요순 목록 앞부분이 바뀔 수 있음
+  }
+
+  private static final class Row { // 읽은 한 줄과 넣으면서 받은 ID
+    private final long line;
+    private final ReviewImportRow review;
+    private final LocalDateTime createdAt;
+    private final Set<String> likes = new LinkedHashSet<>(); // 같은 사용자의 중복 좋아요는 하나로
+    private final List<PendingReply> replies = new ArrayList<>();
+    private long reviewId;
+
+    private Row(long line, ReviewImportRow review) {
+      LocalDateTime now = LocalDateTime.now();
+      this.line = line;
+      this.review = review;
+      this.createdAt = review.createdAt() != null ? review.createdAt() : now;
+
+      if (review.likes() != null) {
+        review.likes().stream().filter(userId -> !isBlank(userId)).forEach(likes::add);
+      }
+
+      if (review.replies() != null) {
+        for (ReviewImportRow.Reply reply : review.replies()) {
+          replies.add(new PendingReply(this, reply, reply.createdAt() != null ? reply.createdAt() : now));
+        }
+      }
+    }
+
+    private Stream<String> usernames() {
+      return Stream.concat(Stream.of(review.username()), replies.stream().map(reply -> reply.reply.username()));
+    }
+
+    private String unknownUser(Map<String, Long> userIds) {
+      return usernames().filter(username -> !userIds.containsKey(username)).findFirst().orElse(null);
+    }
+
+    private static final class PendingReply {
+      private final Row row;
+      private final ReviewImportRow.Reply reply;
+      private final LocalDateTime createdAt;
+      private long replyId;
+
+      private PendingReply(Row row, ReviewImportRow.Reply reply, LocalDateTime createdAt) {
+        this.row = row;
+        this.reply = reply;
+        this.createdAt = createdAt;
+      }
+    }
+  }
+
+  private static final class BookTotals {
+    private long reviews;
+    private long likes;
+    private LocalDateTime latest;
+
+    private void add(Row row) {
+      reviews++;
+      likes += row.likes.size();
+      latest = latest == null || row.createdAt.isAfter(latest) ? row.createdAt : latest;
+    }
+  }
+
+  private static final class Progress { // 가져오는 스레드가 쓰고 진행 상황 조회가 읽음
+    private long lines;
+    private long reviews;
+    private long replies;
+    private long likes;
+    private long failed;
+    private boolean running = true;
+    private final List<ImportReport.RowError> errors = new ArrayList<>();
+
+    private synchronized void line() {
+      lines++;
+    }
+
+    private synchronized void committed(Row row) {
+      reviews++;
+      replies += row.replies.size();
+      likes += row.likes.size();
+    }
+
+    private synchronized void fail(long line, String message) {
+      failed++;
+
+      if (errors.size() < MAX_REPORTED_ERRORS) {
+        String text = message == null ? "Invalid row" : message;
+        errors.add(new ImportReport.RowError(line, text.length() > MAX_MESSAGE_LENGTH ? text.substring(0, MAX_MESSAGE_LENGTH) : text));
+      }
+    }
+
+    private synchronized void finish() {
+      running = false;
+    }
+
+    private synchronized ImportReport report() {
+      return new ImportReport(running, lines, reviews, replies, likes, failed, List.copyOf(errors));
+    }
+  }
+}
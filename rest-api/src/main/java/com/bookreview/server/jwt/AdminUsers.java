@@ -0,0 +1,43 @@
+package com.bookreview.server.jwt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/*
+ * 관리용 엔드포인트(/admin/...)에 접근할 수 있는 사용자를 보안 필터 체인에서 확인.
+ * bookreview.admin.usernames 에 적은 사용자명만 허용하고, 비어 있으면(기본값) 아무도 허용하지 않음 → 관리 기능은 설정해야 켜짐.
+ * JWT 의 sub 와 기본 인증의 사용자명을 요청마다 목록과 비교하므로, 목록에서 빼면 이미 발급된 토큰도 바로 거부됨.
+ */
+@Component
+public class AdminUsers implements AuthorizationManager<RequestAuthorizationContext> {
+  private final Set<String> usernames;
+
+  public AdminUsers(@Value("${bookreview.admin.usernames:}") List<String> usernames) {
+    this.usernames = usernames.stream()
+        .map(String::trim)
+        .filter(username -> !username.isEmpty())
+        .collect(Collectors.toUnmodifiableSet());
+  }
+
+  public boolean isAdmin(Authentication authentication) {
+    return authentication != null
+        && authentication.isAuthenticated()
+        && !(authentication instanceof AnonymousAuthenticationToken)
+        && usernames.contains(authentication.getName());
+  }
+
+  @Override
+  public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) { // 인증되지 않았으면 401, 관리자가 아니면 403
+    return new AuthorizationDecision(isAdmin(authentication.get()));
+  }
+}
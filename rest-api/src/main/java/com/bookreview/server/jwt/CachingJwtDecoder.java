@@ -0,0 +1,88 @@
+package com.bookreview.server.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/*
+ * 검증에 성공한 Jwt 를 토큰 다이제스트(SHA-256) 를 키로 만료 시각(exp)까지 보관하는 JwtDecoder.
+ * 클라이언트는 같은 토큰을 90분 동안 다시 보내므로 두 번째 요청부터는 RSA 서명 검증을 건너뜀.
+ * 검증에 실패한 토큰은 캐시하지 않음 (매번 위임한 디코더가 다시 검증).
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+  private final JwtDecoder delegate;
+  private final Clock clock;
+  private final Cache<String, Jwt> cache;
+
+  public CachingJwtDecoder(JwtDecoder delegate, long maxSize) {
+    this(delegate, maxSize, Clock.systemUTC());
+  }
+
+  CachingJwtDecoder(JwtDecoder delegate, long maxSize, Clock clock) {
+    this.delegate = delegate;
+    this.clock = clock;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxSize) // 토큰 수 제한
+        .expireAfter(new Expiry<String, Jwt>() { // 항목마다 토큰의 exp 에 맞춰 제거
+          @Override
+          public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            return Math.max(0, Duration.between(clock.instant(), jwt.getExpiresAt()).toNanos());
+          }
+
+          @Override
+          public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+          }
+
+          @Override
+          public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+          }
+        })
+        .build();
+  }
+
+  @Override
+  public Jwt decode(String token) throws JwtException {
+    String key = digest(token);
+    Jwt cached = cache.getIfPresent(key);
+
+    if (cached != null && clock.instant().isBefore(cached.getExpiresAt())) { // 만료 직전에 제거되지 않은 항목도 다시 확인
+      return cached;
+    }
+
+    Jwt jwt = delegate.decode(token); // 서명과 클레임 검증 (실패하면 예외가 그대로 전파되고 캐시하지 않음)
+    Instant expiresAt = jwt.getExpiresAt();
+
+    if (expiresAt != null && clock.instant().isBefore(expiresAt)) { // 만료 시각이 없는 토큰은 캐시하지 않음
+      cache.put(key, jwt);
+    }
+
+    return jwt;
+  }
+
+  long size() { // 테스트용
+    cache.cleanUp();
+    return cache.estimatedSize();
+  }
+
+  private static String digest(String token) { // 토큰 원문을 키로 보관하지 않도록 다이제스트를 사용
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
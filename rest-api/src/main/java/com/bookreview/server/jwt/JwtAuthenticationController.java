@@ -7,20 +7,27 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
 @RestController
 public class JwtAuthenticationController {
   private final JwtTokenService tokenService; // JWT를 생성하는 서비스
 
   private final AuthenticationManager authenticationManager; // 인증을 관리
 
+  private final PasswordHashingExecutor hashingExecutor; // BCrypt 비교를 요청 스레드 밖에서 실행
+
   public JwtAuthenticationController(JwtTokenService tokenService,
-		AuthenticationManager authenticationManager) {
+		AuthenticationManager authenticationManager,
+		PasswordHashingExecutor hashingExecutor) {
     this.tokenService = tokenService;
     this.authenticationManager = authenticationManager;
-  } // `tokenService`와 `authenticationManager`를 초기화
+    this.hashingExecutor = hashingExecutor;
+  } // `tokenService`, `authenticationManager`, `hashingExecutor`를 초기화
 
   @PostMapping("/authenticate") // `/authenticate` 경로로 POST 요청이 들어오면 JWT를 생성
-  public ResponseEntity<JwtTokenResponse> generateToken(
+  public CompletableFuture<ResponseEntity<?>> generateToken(
 		@RequestBody JwtTokenRequest jwtTokenRequest) { // 요청 본문에서 `JwtTokenRequest` 객체를 받음
 
     var authenticationToken =
@@ -28,11 +35,17 @@ public class JwtAuthenticationController {
 				jwtTokenRequest.username(),
 				jwtTokenRequest.password()); // 사용자 이름과 비밀번호로 인증 토큰을 생성
 
-    var authentication =
-			authenticationManager.authenticate(authenticationToken); // 인증을 수행
+    try {
+      return hashingExecutor.<ResponseEntity<?>>submit("authenticate", () -> { // 해싱 풀에서 실행하고 요청 스레드는 바로 반환 (비동기 응답)
+        var authentication =
+			authenticationManager.authenticate(authenticationToken); // 인증을 수행 (BCrypt 비교)
 
-    var token = tokenService.generateToken(authentication); // 인증 정보를 바탕으로 JWT를 생성
+        var token = tokenService.generateToken(authentication); // 인증 정보를 바탕으로 JWT를 생성
 
-    return ResponseEntity.ok(new JwtTokenResponse(token)); // 생성된 토큰을 포함한 응답을 반환
+        return ResponseEntity.ok(new JwtTokenResponse(token)); // 생성된 토큰을 포함한 응답을 반환
+      });
+    } catch (RejectedExecutionException e) { // 해싱 대기열이 가득 찬 경우
+      return CompletableFuture.completedFuture(hashingExecutor.tooManyRequests()); // 429 + Retry-After 응답
+    }
   }
 }
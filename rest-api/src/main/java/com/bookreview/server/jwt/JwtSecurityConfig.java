@@ -1,12 +1,12 @@
 package com.bookreview.server.jwt;
 
-import com.bookreview.server.user.User;
-import com.bookreview.server.user.UserRepository;
-import com.nimbusds.jose.JOSEException;
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
+import com.bookreview.server.ratelimit.RateLimitFilter;
+import com.bookreview.server.user.UserPrincipalCache;
 import com.nimbusds.jose.jwk.source.JWKSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import com.nimbusds.jose.proc.SecurityContext;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -26,35 +26,34 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
 
-import java.security.KeyPair;
-import java.security.KeyPairGenerator;
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
-import java.util.UUID;
+import java.util.function.Supplier;
+
 
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity // Spring Security 설정 클래스라는 뜻
 public class JwtSecurityConfig {
-  private final UserRepository userRepository;
+  private final UserPrincipalCache principalCache;
 
-  public JwtSecurityConfig(UserRepository userRepository) {
-    this.userRepository = userRepository;
+  public JwtSecurityConfig(UserPrincipalCache principalCache) {
+    this.principalCache = principalCache;
   }
 
   @Bean
-  public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception { // `SecurityFilterChain` 빈을 정의하여 HTTP 보안 설정을 구성함
+  public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity, RateLimitFilter rateLimitFilter, AdminUsers adminUsers) throws Exception { // `SecurityFilterChain` 빈을 정의하여 HTTP 보안 설정을 구성함
     return httpSecurity
       .authorizeHttpRequests(auth -> auth
         .requestMatchers("/authenticate", "/register").permitAll() // 인증과 등록 엔드포인트는 인증 없이 접근 허용
         .requestMatchers(HttpMethod.GET, "/reviews/**").permitAll()
         .requestMatchers(HttpMethod.GET, "/replies/**").permitAll()
-        .requestMatchers(HttpMethod.PUT, "/reviews/*/like").permitAll() // 좋아요 토글하는 것은 인증 없이 접근 허용
+        .requestMatchers(HttpMethod.GET, "/books/*/events").permitAll() // 도서별 변경 이벤트 (SSE)
+        .requestMatchers(HttpMethod.POST, "/reviews/*/like").permitAll() // 좋아요 추가/취소도 세션 ID로 인증 없이 접근 허용
+        .requestMatchers(HttpMethod.DELETE, "/reviews/*/like").permitAll()
         .requestMatchers(HttpMethod.POST, "/reviews/**").authenticated() // 리뷰 작성은 인증 필요
         .requestMatchers(HttpMethod.PUT, "/reviews/**").authenticated()
         .requestMatchers(HttpMethod.DELETE, "/reviews/**").authenticated()
@@ -62,12 +61,16 @@ public class JwtSecurityConfig {
         .requestMatchers(HttpMethod.PUT, "/replies/**").authenticated()
         .requestMatchers(HttpMethod.DELETE, "/replies/**").authenticated()
         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll() // 모든 OPTIONS 요청 허용
+        .requestMatchers("/admin/import").access(adminUsers) // 가져오기는 임의의 사용자명으로 리뷰를 쓰므로 설정된 관리자만
+        .requestMatchers("/admin/export/**").access(adminUsers) // 전체 리뷰, 답글 테이블을 내보내고 내보내기 허가를 쥐므로 관리자만
+        .requestMatchers("/admin/search/**").access(adminUsers) // 색인 다시 만들기는 DB 전체를 읽으므로 관리자만
         .anyRequest().authenticated()) // 나머지 모든 요청은 인증 필요
       .csrf(AbstractHttpConfigurer::disable) // CSRF 보호 비활성화
       .cors(Customizer.withDefaults()) // CORS 설정을 기본값으로 사용
       .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // 세션 관리를 상태 비저장으로 설정
       .oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> jwt.jwtAuthenticationConverter(jwtAuthenticationConverter()))) // JWT 인증을 사용하도록 설정
       .httpBasic(Customizer.withDefaults()) // 기본 HTTP 인증 사용
+      .addFilterAfter(rateLimitFilter, BearerTokenAuthenticationFilter.class) // 요청 한도: JWT 사용자를 알 수 있고, 기본 인증(BCrypt)보다 먼저 실행
       .build();
   }
 
@@ -90,57 +93,50 @@ public class JwtSecurityConfig {
 
   @Bean
   public UserDetailsService userDetailsService() { // `UserDetailsService` 빈을 정의하여 사용자 세부 정보를 불러옴
-    return username -> {
-      User user = userRepository.findByUsername(username); // 사용자 이름으로 `UserRepository`에서 사용자 정보를 찾고,
-      if (user == null) {
-        throw new org.springframework.security.core.userdetails.UsernameNotFoundException("User not found: " + username);
-      } // 찾지 못하면 예외를 발생시킴
-      return org.springframework.security.core.userdetails.User // `User` 객체를 사용하여 사용자 세부 정보를 생성
-        .withUsername(user.getUsername())
-        .password(user.getPassword())
-        .authorities("USER")
-        .build();
-    };
+    return principalCache::loadUserByUsername; // TTL 캐시에서 사용자 정보를 찾고 (없으면 `UserRepository`에서 조회), 찾지 못하면 예외를 발생시킴
   }
 
   /* jwt 인증, jwk 리소스 설정하는 로직 순서 */
   @Bean
-  public KeyPair keyPair() {
-    try {
-      var keyPairGenerator = KeyPairGenerator.getInstance("RSA");
-      keyPairGenerator.initialize(2048);
-      return keyPairGenerator.generateKeyPair();
-    } catch (Exception e) {
-      throw new IllegalStateException("Unable to generate an RSA Key Pair", e);
-    }
-  } // 1. 키 엔트리쌍을 사용하여 RSA 키 객체를 생성하기 위해 작성
+  public JwtSigningKeys jwtSigningKeys(
+      @Value("${bookreview.jwt.algorithm:RS256}") String algorithm,
+      @Value("${bookreview.jwt.jwks-path:}") String jwksPath,
+      @Value("${bookreview.jwt.keystore.path:}") String keystorePath,
+      @Value("${bookreview.jwt.keystore.password:}") String keystorePassword,
+      @Value("${bookreview.jwt.active-kid:}") String activeKid) {
+    return JwtSigningKeys.load(algorithm, jwksPath, keystorePath, keystorePassword, activeKid);
+  } // 1. 키 파일(JWK) 또는 키스토어에서 서명 키를 읽기 위해 작성 (파일이 없으면 한 번 생성해서 저장 → 재시작해도 토큰이 유지됨)
 
   @Bean
-  public RSAKey rsaKey(KeyPair keyPair) {
-    return new RSAKey
-      .Builder((RSAPublicKey) keyPair.getPublic())
-      .privateKey((RSAPrivateKey) keyPair.getPrivate())
-      .keyID(UUID.randomUUID().toString())
-      .build();
-  } // 2. RSA 키 엔트리쌍 생성을 위해 작성
+  public JWKSource<SecurityContext> jwkSource(JwtSigningKeys signingKeys) {
+    return signingKeys.jwkSource();
+  } // 2. kid 로 키를 고르는 Json Web Key 소스를 생성하기 위해 작성 (교체 중에는 여러 키를 함께 보관)
 
   @Bean
-  public JWKSource<SecurityContext> jwkSource(RSAKey rsaKey) {
-    JWKSet jwkSet = new JWKSet(rsaKey);
-    return (((jwkSelector, securityContext) -> jwkSelector.select(jwkSet)));
-  } // 3. Json Web Key 소스를 생성하기 위해 작성
+  JwtDecoder jwtDecoder(JwtSigningKeys signingKeys, MeterRegistry meterRegistry,
+      @Value("${bookreview.jwt.decode-cache.max-size:10000}") long decodeCacheMaxSize) {
+    JwtDecoder decoder = decodeCacheMaxSize > 0 ? new CachingJwtDecoder(signingKeys.decoder(), decodeCacheMaxSize) : signingKeys.decoder(); // 검증된 토큰은 exp 까지 캐시하여 같은 토큰의 서명을 다시 검증하지 않음 (0이면 사용 안 함)
+    return token -> timed(meterRegistry, "auth.jwt.decode", () -> decoder.decode(token)); // 요청마다의 디코딩 시간 (캐시 적중 포함)
+  } // 3. 디코딩을 위한 공개 키를 사용하기 위해 작성
 
   @Bean
-  JwtDecoder jwtDecoder(RSAKey rsaKey) throws JOSEException {
-    return NimbusJwtDecoder
-      .withPublicKey(rsaKey.toRSAPublicKey())
-      .build();
-  } // 4. 디코딩을 위한 RSA 공개 키를 사용하기 위해 작성
+  JwtEncoder jwtEncoder(JWKSource<SecurityContext> jwkSource, MeterRegistry meterRegistry) {
+    JwtEncoder encoder = new NimbusJwtEncoder(jwkSource);
+    return parameters -> timed(meterRegistry, "auth.jwt.encode", () -> encoder.encode(parameters)); // 토큰 발급시 서명 시간
+  } // 4. JWT 인증 설정에서 인코더 생성을 위해 작성
 
-  @Bean
-  JwtEncoder jwtEncoder(JWKSource<SecurityContext> jwkSource) {
-    return new NimbusJwtEncoder(jwkSource);
-  } // 5. JWT 인증 설정에서 인코더 생성을 위해 작성
+  private static <T> T timed(MeterRegistry meterRegistry, String name, Supplier<T> operation) { // outcome 태그로 성공/실패(잘못된 토큰 등)를 나눠서 기록
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "failure";
+
+    try {
+      T result = operation.get();
+      outcome = "success";
+      return result;
+    } finally {
+      sample.stop(Timer.builder(name).tag("outcome", outcome).register(meterRegistry));
+    }
+  }
 
   @Bean
   public PasswordEncoder passwordEncoder() { // 비밀번호 인코더를 설정
@@ -0,0 +1,206 @@
+package com.bookreview.server.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyType;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.KeyStore;
+import java.text.ParseException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/*
+ * JWT 서명 키 모음.
+ * 키는 JWK 파일 또는 키스토어에서 읽고, 여러 키를 함께 두어 키 교체 중에도 이전 키로 서명된 토큰을 검증할 수 있음.
+ * 새 토큰은 활성 키(active kid) 하나로만 서명하고, 헤더의 kid 로 검증 키를 고름.
+ */
+public class JwtSigningKeys {
+  private static final Logger log = LoggerFactory.getLogger(JwtSigningKeys.class);
+
+  private final JWKSet keys; // 개인 키를 포함한 전체 키 (서명용)
+  private final JWK activeKey; // 새 토큰을 서명하는 키
+  private final JWSAlgorithm algorithm;
+
+  JwtSigningKeys(JWKSet keys, JWK activeKey, JWSAlgorithm algorithm) {
+    this.keys = keys;
+    this.activeKey = activeKey;
+    this.algorithm = algorithm;
+  }
+
+  /*
+   * algorithm: RS256, ES256 (Ed25519 는 Spring Security 6.2 의 NimbusJwtEncoder 가 OKP 키를 고르지 못해 지원하지 않음)
+   * jwksPath: JWK 파일 (없으면 새 키를 만들어 저장, 비어 있으면 저장하지 않는 임시 키)
+   * keystorePath: PKCS12 키스토어 (RSA, EC 키만, kid 는 별칭) → 설정하면 jwksPath 대신 사용
+   * activeKid: 서명에 사용할 키 ID (비어 있으면 알고리즘이 맞는 첫 번째 키)
+   */
+  public static JwtSigningKeys load(String algorithm, String jwksPath, String keystorePath, String keystorePassword, String activeKid) {
+    JWSAlgorithm jwsAlgorithm = parseAlgorithm(algorithm);
+    JWKSet keys;
+
+    try {
+      if (keystorePath != null && !keystorePath.isBlank()) {
+        keys = loadKeyStore(Path.of(keystorePath), keystorePassword);
+      } else if (jwksPath != null && !jwksPath.isBlank()) {
+        keys = loadOrCreateJwks(Path.of(jwksPath), jwsAlgorithm);
+      } else { // 개발용: 재시작하면 이전 토큰은 모두 무효
+        log.warn("bookreview.jwt.jwks-path is not set; signing with an ephemeral {} key", jwsAlgorithm);
+        keys = new JWKSet(generate(jwsAlgorithm));
+      }
+    } catch (IOException | ParseException | JOSEException | java.security.GeneralSecurityException e) {
+      throw new IllegalStateException("Unable to load JWT signing keys", e);
+    }
+
+    return of(keys, jwsAlgorithm, activeKid);
+  }
+
+  static JwtSigningKeys of(JWKSet keys, JWSAlgorithm algorithm, String activeKid) {
+    JWK active = null;
+
+    for (JWK key : keys.getKeys()) {
+      boolean matches = activeKid != null && !activeKid.isBlank()
+          ? activeKid.equals(key.getKeyID())
+          : key.isPrivate() && algorithm.equals(algorithmOf(key)); // 인증서만 있는 키스토어 항목은 검증에만 사용
+
+      if (matches) {
+        active = key;
+        break;
+      }
+    }
+
+    if (active == null || !active.isPrivate()) {
+      throw new IllegalStateException("No private " + algorithm + " signing key" + (activeKid != null && !activeKid.isBlank() ? " with kid " + activeKid : ""));
+    }
+
+    if (!algorithm.equals(algorithmOf(active))) {
+      throw new IllegalStateException("Active key " + active.getKeyID() + " is not a " + algorithm + " key");
+    }
+
+    return new JwtSigningKeys(keys, active, algorithm);
+  }
+
+  public static JWK generate(JWSAlgorithm algorithm) throws JOSEException { // 알고리즘에 맞는 새 서명 키 생성
+    String kid = UUID.randomUUID().toString();
+
+    if (JWSAlgorithm.ES256.equals(algorithm)) {
+      return new ECKeyGenerator(Curve.P_256).keyID(kid).algorithm(algorithm).keyUse(KeyUse.SIGNATURE).generate();
+    }
+
+    return new RSAKeyGenerator(2048).keyID(kid).algorithm(algorithm).keyUse(KeyUse.SIGNATURE).generate();
+  }
+
+  public JWKSource<SecurityContext> jwkSource() { // 인코더용 (개인 키 포함, 헤더의 kid 와 alg 로 키를 고름)
+    return new ImmutableJWKSet<>(keys);
+  }
+
+  public JwsHeader header() { // 새 토큰의 헤더: 활성 키의 kid 와 알고리즘
+    return JwsHeader.with(SignatureAlgorithm.from(algorithm.getName())).keyId(activeKey.getKeyID()).build();
+  }
+
+  public JwtDecoder decoder() { // 공개 키만으로 검증하고, 파일에 있는 모든 키(교체 중인 이전 키 포함)를 허용
+    Set<JWSAlgorithm> algorithms = new LinkedHashSet<>();
+
+    for (JWK key : keys.getKeys()) {
+      JWSAlgorithm keyAlgorithm = algorithmOf(key);
+
+      if (keyAlgorithm != null) {
+        algorithms.add(keyAlgorithm);
+      }
+    }
+
+    DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+    processor.setJWSKeySelector(new JWSVerificationKeySelector<>(algorithms, new ImmutableJWKSet<>(keys.toPublicJWKSet())));
+    processor.setJWTClaimsSetVerifier((claims, context) -> {}); // 만료 등 클레임 검증은 NimbusJwtDecoder 의 기본 검증기에 맡김
+    return new NimbusJwtDecoder(processor);
+  }
+
+  public String activeKeyId() { return activeKey.getKeyID(); }
+  public JWSAlgorithm algorithm() { return algorithm; }
+
+  static JWSAlgorithm parseAlgorithm(String algorithm) {
+    if (algorithm == null || algorithm.isBlank()) {
+      return JWSAlgorithm.RS256;
+    }
+
+    switch (algorithm.trim().toUpperCase()) {
+      case "RS256": return JWSAlgorithm.RS256;
+      case "ES256": return JWSAlgorithm.ES256;
+      default: throw new IllegalArgumentException("Unsupported JWT algorithm: " + algorithm + " (RS256 or ES256)");
+    }
+  }
+
+  static JWSAlgorithm algorithmOf(JWK key) { // 키의 alg 가 없으면(키스토어) 키 종류로 추정
+    if (key.getAlgorithm() != null) {
+      return JWSAlgorithm.parse(key.getAlgorithm().getName());
+    }
+
+    if (KeyType.RSA.equals(key.getKeyType())) {
+      return JWSAlgorithm.RS256;
+    }
+
+    if (key instanceof ECKey ecKey && Curve.P_256.equals(ecKey.getCurve())) {
+      return JWSAlgorithm.ES256;
+    }
+
+    return null;
+  }
+
+  private static JWKSet loadKeyStore(Path path, String password) throws IOException, java.security.GeneralSecurityException {
+    char[] secret = password != null ? password.toCharArray() : new char[0];
+    KeyStore keyStore = KeyStore.getInstance("PKCS12");
+
+    try (InputStream in = Files.newInputStream(path)) {
+      keyStore.load(in, secret);
+    }
+
+    return JWKSet.load(keyStore, name -> secret); // RSA, EC 키 (별칭이 kid)
+  }
+
+  private static JWKSet loadOrCreateJwks(Path path, JWSAlgorithm algorithm) throws IOException, ParseException, JOSEException {
+    if (Files.exists(path)) {
+      return JWKSet.load(path.toFile());
+    }
+
+    JWKSet created = new JWKSet(generate(algorithm)); // 처음 시작할 때 한 번만 생성 → 재시작해도 같은 키로 서명하고 검증
+    Path parent = path.toAbsolutePath().getParent();
+
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+
+    try { // 개인 키가 들어 있으므로 소유자만 읽을 수 있게 만든 뒤 기록
+      Files.createFile(path, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+    } catch (UnsupportedOperationException e) { // POSIX 권한을 지원하지 않는 파일 시스템
+      log.warn("Could not restrict permissions of {}", path);
+    }
+
+    Files.writeString(path, created.toString(false), StandardCharsets.UTF_8); // 개인 키 포함
+
+    log.info("Created JWT signing key {} in {}", created.getKeys().get(0).getKeyID(), path);
+    return created;
+  }
+}
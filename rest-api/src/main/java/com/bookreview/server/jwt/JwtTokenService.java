@@ -1,5 +1,7 @@
 package com.bookreview.server.jwt;
 
+import com.bookreview.server.user.AuthenticatedUser;
+import com.bookreview.server.user.UserPrincipalCache;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
@@ -14,10 +16,12 @@ import java.util.stream.Collectors;
 @Service
 public class JwtTokenService {
   private final JwtEncoder jwtEncoder; // JWT 인코더
+  private final JwtSigningKeys signingKeys; // 서명 키 (활성 키의 kid 와 알고리즘을 헤더에 씀)
 
-  public JwtTokenService(JwtEncoder jwtEncoder) {
+  public JwtTokenService(JwtEncoder jwtEncoder, JwtSigningKeys signingKeys) {
     this.jwtEncoder = jwtEncoder;
-  } // `jwtEncoder`를 초기화
+    this.signingKeys = signingKeys;
+  } // `jwtEncoder`와 `signingKeys`를 초기화
 
   public String generateToken(Authentication authentication) { // 인증 정보를 바탕으로 JWT를 생성
 
@@ -32,11 +36,14 @@ public class JwtTokenService {
       .issuedAt(Instant.now()) // 발급 시간을 현재 시간으로 설정함
       .expiresAt(Instant.now().plus(90, ChronoUnit.MINUTES)) // 만료 시간을 90분 후로 설정함
       .subject(authentication.getName()) // 주체를 인증된 사용자 이름으로 설정함
-      .claim("scope", scope) // 권한 범위를 설정함
-      .build();
+      .claim("scope", scope); // 권한 범위를 설정함
+
+    if (authentication.getPrincipal() instanceof AuthenticatedUser user) { // 사용자 ID를 클레임에 담아 쓰기 요청마다 사용자명으로 조회하지 않도록 함
+      claims.claim(UserPrincipalCache.USER_ID_CLAIM, user.getId());
+    }
 
     return this.jwtEncoder
-      .encode(JwtEncoderParameters.from(claims)) // JWT를 인코딩하고
+      .encode(JwtEncoderParameters.from(signingKeys.header(), claims.build())) // 활성 키로 JWT를 인코딩하고
       .getTokenValue(); // 토큰 값을 반환
   }
 }
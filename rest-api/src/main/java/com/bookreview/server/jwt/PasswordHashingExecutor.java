@@ -0,0 +1,83 @@
+package com.bookreview.server.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/*
+ * BCrypt 해싱(로그인, 회원가입)을 요청 스레드 대신 코어 수 크기의 전용 풀에서 실행.
+ * 대기열이 가득 차면 바로 거절(RejectedExecutionException)하여 로그인 폭주가 Tomcat 스레드를 모두 차지하지 못하게 함.
+ */
+@Component
+public class PasswordHashingExecutor {
+  private final ThreadPoolExecutor executor;
+  private final long retryAfterSeconds; // 거절시 Retry-After 헤더 값
+  private final MeterRegistry meterRegistry;
+  private final Counter rejected;
+
+  public PasswordHashingExecutor(MeterRegistry meterRegistry,
+      @Value("${bookreview.hashing.threads:0}") int threads,
+      @Value("${bookreview.hashing.queue-capacity:64}") int queueCapacity,
+      @Value("${bookreview.hashing.retry-after-seconds:1}") long retryAfterSeconds) {
+    int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors(); // 기본값은 CPU 코어 수 (해싱은 CPU 작업)
+    AtomicInteger threadNumber = new AtomicInteger();
+
+    this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity), // 대기열 크기 제한
+        runnable -> {
+          Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy()); // 가득 차면 대기하지 않고 거절
+    this.retryAfterSeconds = retryAfterSeconds;
+    this.meterRegistry = meterRegistry;
+    this.rejected = Counter.builder("auth.hashing.rejected").description("Password hashing tasks rejected because the queue was full").register(meterRegistry);
+
+    Gauge.builder("auth.hashing.queue.depth", executor, e -> e.getQueue().size()).description("Password hashing tasks waiting in the queue").register(meterRegistry);
+    Gauge.builder("auth.hashing.active", executor, ThreadPoolExecutor::getActiveCount).description("Password hashing tasks running").register(meterRegistry);
+  }
+
+  public <T> CompletableFuture<T> submit(String operation, Supplier<T> task) { // 대기열이 가득 차면 RejectedExecutionException
+    Timer waitTimer = Timer.builder("auth.hashing.wait").tag("operation", operation).description("Time spent in the password hashing queue").register(meterRegistry);
+    Timer hashTimer = Timer.builder("auth.hashing.duration").tag("operation", operation).description("Time spent running a password hashing task").register(meterRegistry);
+    long queuedAt = System.nanoTime();
+
+    try {
+      return CompletableFuture.supplyAsync(() -> {
+        waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+        return hashTimer.record(task);
+      }, executor);
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      throw e;
+    }
+  }
+
+  public ResponseEntity<?> tooManyRequests() { // 대기열이 가득 찼을 때의 응답
+    return ResponseEntity
+      .status(HttpStatus.TOO_MANY_REQUESTS) // 429 Too Many Requests 응답
+      .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+      .body("Too many requests: Please try again later");
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+  }
+}
@@ -0,0 +1,29 @@
+package com.bookreview.server.metrics;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+@Component
+public class HandlerObservationConvention extends DefaultServerRequestObservationConvention { // http.server.requests 타이머에 컨트롤러 메서드 태그(handler=ReviewController#readReviews)를 추가
+  private static final KeyValue NO_HANDLER = KeyValue.of("handler", "none");
+
+  @Override
+  public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+    return super.getLowCardinalityKeyValues(context).and(handler(context));
+  }
+
+  private static KeyValue handler(ServerRequestObservationContext context) {
+    Object handler = context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+
+    if (handler instanceof HandlerMethod method) {
+      return KeyValue.of("handler", method.getBeanType().getSimpleName() + "#" + method.getMethod().getName());
+    }
+
+    return NO_HANDLER; // 정적 리소스, 보안 필터에서 끝난 요청 (401 등)
+  }
+}
@@ -0,0 +1,15 @@
+package com.bookreview.server.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+  @Bean
+  HibernatePropertiesCustomizer sqlStatementCounter() { // 모든 세션에 SQL 문 카운터를 등록
+    return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+  }
+}
@@ -0,0 +1,21 @@
+package com.bookreview.server.metrics;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/* 로그 이벤트를 rate 비율(0.0 ~ 1.0)만 통과시키는 logback 필터 (prod 프로파일의 느린 쿼리 로그, logback-spring.xml) */
+public class SamplingFilter extends Filter<ILoggingEvent> {
+  private double rate = 1.0;
+
+  @Override
+  public FilterReply decide(ILoggingEvent event) {
+    return rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate ? FilterReply.NEUTRAL : FilterReply.DENY;
+  }
+
+  public void setRate(double rate) {
+    this.rate = rate;
+  }
+}
@@ -0,0 +1,33 @@
+package com.bookreview.server.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/*
+ * Hibernate 가 실행하는 SQL 문을 요청 스레드별로 셈 (SqlStatementMetricsFilter 가 요청마다 초기화하고 기록).
+ * 2차 캐시나 쿼리 캐시에서 응답하면 0이 되므로 캐시가 실제로 DB 접근을 줄이는지 요청 단위로 볼 수 있음.
+ * JdbcTemplate 으로 실행하는 좋아요 flush 는 별도 스레드에서 일어나므로 세지 않음.
+ */
+public class SqlStatementCounter implements StatementInspector {
+  private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>(); // 요청 중에만 설정 (int[] 하나로 박싱 없이 증가)
+
+  @Override
+  public String inspect(String sql) {
+    int[] count = COUNT.get();
+
+    if (count != null) {
+      count[0]++;
+    }
+
+    return sql; // SQL 은 바꾸지 않음
+  }
+
+  static void start() {
+    COUNT.set(new int[1]);
+  }
+
+  static int stop() { // 지금까지 센 문장 수를 반환하고 초기화
+    int[] count = COUNT.get();
+    COUNT.remove();
+    return count != null ? count[0] : 0;
+  }
+}
@@ -0,0 +1,45 @@
+package com.bookreview.server.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2) // 보안 필터보다 먼저 → 인증 중의 사용자 조회도 포함
+public class SqlStatementMetricsFilter extends OncePerRequestFilter { // 요청 하나가 실행한 SQL 문 수를 URI 패턴별 분포로 기록 (http.server.requests.sql)
+  private final MeterRegistry meterRegistry;
+
+  public SqlStatementMetricsFilter(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    SqlStatementCounter.start();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      int statements = SqlStatementCounter.stop(); // 비동기 응답(/authenticate, /register)은 요청 스레드에서 실행한 문장만 포함
+      Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE); // 경로 변수 대신 패턴으로 태그 (카디널리티 제한)
+
+      DistributionSummary.builder("http.server.requests.sql")
+          .description("SQL statements executed per request")
+          .baseUnit("statements")
+          .tag("method", request.getMethod())
+          .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+          .register(meterRegistry)
+          .record(statements);
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package com.bookreview.server.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+  @Bean
+  public RateLimitFilter rateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+    return new RateLimitFilter(new RateLimiter(properties, meterRegistry));
+  }
+
+  @Bean
+  FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+    FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+    registration.setEnabled(false); // 서블릿 필터로는 등록하지 않고 보안 필터 체인 안에서만 실행
+    return registration;
+  }
+}
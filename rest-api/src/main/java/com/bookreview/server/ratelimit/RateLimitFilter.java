@@ -0,0 +1,73 @@
+package com.bookreview.server.ratelimit;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.GenericFilterBean;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 규칙에 맞는 요청의 토큰을 사용자(JWT subject) 또는 클라이언트 IP 별로 꺼내고, 없으면 429 와 Retry-After(초)로 응답하는 필터.
+ * 보안 필터 체인에서 Bearer 토큰 인증 바로 다음에 실행 (JwtSecurityConfig) → 사용자를 알 수 있고, 기본 인증의 BCrypt 보다 먼저 막음.
+ * 모든 요청을 거치므로 OncePerRequestFilter 의 요청 속성 대신 디스패치 종류로 한 번만 셈 (비동기/오류 디스패치는 통과).
+ */
+public class RateLimitFilter extends GenericFilterBean {
+  private static final String USER_KEY_PREFIX = "user:"; // IP 와 겹치지 않도록
+
+  private final RateLimiter rateLimiter;
+
+  public RateLimitFilter(RateLimiter rateLimiter) {
+    this.rateLimiter = rateLimiter;
+  }
+
+  @Override
+  public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain)
+      throws IOException, ServletException {
+    HttpServletRequest request = (HttpServletRequest) servletRequest;
+    RateLimiter.Route route = request.getDispatcherType() == DispatcherType.REQUEST
+        ? rateLimiter.route(request.getMethod(), request.getRequestURI().substring(request.getContextPath().length()))
+        : null;
+
+    if (route == null) {
+      filterChain.doFilter(servletRequest, servletResponse);
+      return;
+    }
+
+    long waitNanos = route.tryAcquire(key(route, request));
+
+    if (waitNanos == 0) {
+      filterChain.doFilter(servletRequest, servletResponse);
+      return;
+    }
+
+    HttpServletResponse response = (HttpServletResponse) servletResponse;
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1)))); // 올림
+    response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+    response.getWriter().write("Too many requests");
+  }
+
+  private static String key(RateLimiter.Route route, HttpServletRequest request) {
+    if (route.key() == RateLimitProperties.Key.USER) {
+      Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+      if (authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+        return USER_KEY_PREFIX + authentication.getName();
+      }
+    }
+
+    return request.getRemoteAddr(); // 프록시 뒤라면 server.forward-headers-strategy 로 X-Forwarded-For 의 주소가 들어옴
+  }
+}
@@ -0,0 +1,27 @@
+package com.bookreview.server.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties("bookreview.rate-limit")
+public record RateLimitProperties( // 경로별 요청 한도 (bookreview.rate-limit.rules[n].*, application.properties)
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("100000") long maxKeys, // 규칙마다 기억하는 최대 사용자/IP 수
+    @DefaultValue List<Rule> rules) {
+
+  public record Rule(
+      String name, // 메트릭 태그
+      String method, // 없으면 모든 메서드
+      String path, // 경로 패턴 (예: /reviews/*/like)
+      int capacity, // 한 번에 몰아서 보낼 수 있는 요청 수
+      Duration period, // capacity 만큼의 토큰이 다시 차는 시간
+      @DefaultValue("user") Key key) {}
+
+  public enum Key {
+    USER, // 인증된 요청은 JWT subject, 아니면 클라이언트 IP
+    IP
+  }
+}
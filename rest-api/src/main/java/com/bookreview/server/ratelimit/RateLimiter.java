@@ -0,0 +1,164 @@
+package com.bookreview.server.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/*
+ * 경로별 토큰 버킷: capacity 개까지 몰아서 허용하고, period 동안 capacity 개의 토큰이 고르게 다시 참.
+ * 버킷은 "다음 요청이 토큰을 받을 수 있는 이론상 시각" 하나만 AtomicLong 에 두고 CAS 로 갱신 (GCRA) → 잠금 없이 요청마다 CAS 한 번.
+ * 사용자/IP별 버킷은 규칙마다 크기가 제한된 Caffeine 캐시에 둠. 그 시각이 지난 버킷은 가득 차 있어 새 버킷과 같으므로
+ * 새 키가 생길 때 period 마다 한 번 백그라운드에서 지움 (Caffeine 의 시간 만료는 조회마다 시계를 읽어 요청당 비용이 몇 배로 늘어남).
+ */
+public class RateLimiter {
+  private final List<Route> routes = new ArrayList<>();
+
+  public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+    this(properties, meterRegistry, System::nanoTime, ForkJoinPool.commonPool());
+  }
+
+  RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock, Executor sweeper) {
+    if (!properties.enabled()) {
+      return;
+    }
+
+    for (RateLimitProperties.Rule rule : properties.rules()) {
+      routes.add(new Route(rule, properties.maxKeys(), meterRegistry, nanoClock, sweeper));
+    }
+  }
+
+  public Route route(String method, String path) { // 요청에 맞는 첫 번째 규칙 (없으면 null)
+    boolean plain = path.indexOf('%') < 0 && path.indexOf(';') < 0; // 인코딩된 문자나 경로 변수(;)가 없으면 디코딩해도 같은 경로
+    PathContainer container = null;
+
+    for (Route route : routes) {
+      if (route.method != null && !route.method.equals(method)) {
+        continue;
+      }
+
+      if (plain && !path.startsWith(route.prefix)) { // 대부분의 요청은 경로를 나누지 않고 고정 접두어로 거름
+        continue;
+      }
+
+      if (container == null) {
+        container = PathContainer.parsePath(path);
+      }
+
+      if (route.pattern.matches(container)) {
+        return route;
+      }
+    }
+
+    return null;
+  }
+
+  public static final class Route {
+    private final String method;
+    private final PathPattern pattern;
+    private final String prefix; // 패턴에서 와일드카드/변수 앞까지의 고정 부분
+    private final RateLimitProperties.Key key;
+    private final long intervalNanos; // 토큰 하나가 다시 차는 시간
+    private final long burstNanos; // capacity 개의 토큰이 차는 시간 (= period)
+    private final LongSupplier nanoClock;
+    private final Executor sweeper;
+    private final AtomicLong nextSweep; // 다음에 가득 찬 버킷을 지울 시각
+    private final Cache<String, AtomicLong> buckets;
+    private final Counter allowed;
+    private final Counter limited;
+
+    private Route(RateLimitProperties.Rule rule, long maxKeys, MeterRegistry meterRegistry, LongSupplier nanoClock, Executor sweeper) {
+      if (rule.name() == null || rule.path() == null || rule.capacity() < 1 || rule.period() == null || rule.period().isNegative() || rule.period().isZero()) {
+        throw new IllegalArgumentException("Invalid rate limit rule: " + rule);
+      }
+
+      this.method = rule.method() == null || rule.method().isBlank() ? null : rule.method().toUpperCase();
+      this.pattern = PathPatternParser.defaultInstance.parse(rule.path());
+      this.prefix = literalPrefix(rule.path());
+      this.key = rule.key();
+      this.burstNanos = rule.period().toNanos();
+      this.intervalNanos = Math.max(1, burstNanos / rule.capacity());
+      this.nanoClock = nanoClock;
+      this.sweeper = sweeper;
+      this.nextSweep = new AtomicLong(nanoClock.getAsLong() + burstNanos);
+      this.buckets = Caffeine.newBuilder()
+          .maximumSize(maxKeys) // 키를 바꿔 가며 보내도 메모리가 늘지 않음
+          .build();
+      this.allowed = Counter.builder("ratelimit.requests").tag("rule", rule.name()).tag("outcome", "allowed")
+          .description("Requests checked against a rate limit rule").register(meterRegistry);
+      this.limited = Counter.builder("ratelimit.requests").tag("rule", rule.name()).tag("outcome", "limited")
+          .description("Requests checked against a rate limit rule").register(meterRegistry);
+      Gauge.builder("ratelimit.keys", buckets, Cache::estimatedSize).tag("rule", rule.name())
+          .description("Users and client IPs currently tracked by a rate limit rule").register(meterRegistry);
+    }
+
+    private void sweepIfDue(long now) {
+      long due = nextSweep.get();
+
+      if (now - due < 0 || !nextSweep.compareAndSet(due, now + burstNanos)) {
+        return;
+      }
+
+      sweeper.execute(() -> buckets.asMap().values().removeIf(bucket -> bucket.get() - now < 0)); // 방금 만든 버킷(= now)은 남김, 드물게 지우는 순간 쓰인 버킷은 토큰 하나를 돌려받을 수 있음
+    }
+
+    int keys() {
+      buckets.cleanUp();
+      return (int) buckets.estimatedSize();
+    }
+
+    private static String literalPrefix(String path) {
+      int end = path.length();
+
+      for (char special : new char[] {'*', '{', '?'}) {
+        int index = path.indexOf(special);
+
+        if (index >= 0 && index < end) {
+          end = index;
+        }
+      }
+
+      return path.substring(0, end);
+    }
+
+    public RateLimitProperties.Key key() {
+      return key;
+    }
+
+    public long tryAcquire(String key) { // 토큰을 얻으면 0, 아니면 다음 토큰까지 기다려야 하는 나노초
+      long now = nanoClock.getAsLong();
+      AtomicLong bucket = buckets.getIfPresent(key);
+
+      if (bucket == null) {
+        bucket = buckets.get(key, k -> new AtomicLong(now));
+        sweepIfDue(now);
+      }
+
+      while (true) {
+        long theoretical = bucket.get();
+        long next = Math.max(theoretical, now) + intervalNanos; // 토큰이 남아 있으면 now 보다 앞선 시각
+
+        if (next - now > burstNanos) { // 토큰이 없음 (몰아서 보낸 요청이 capacity 를 넘음)
+          limited.increment();
+          return next - now - burstNanos;
+        }
+
+        if (bucket.compareAndSet(theoretical, next)) {
+          allowed.increment();
+          return 0;
+        }
+      }
+    }
+  }
+}
@@ -1,14 +1,21 @@
 package com.bookreview.server.reply;
 
+import com.bookreview.server.cache.CacheRegions;
 import com.bookreview.server.review.Review;
 import com.bookreview.server.user.User;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reply")
+@Table(name = "reply", indexes = {
+    @Index(name = "idx_reply_review_id", columnList = "review_id, id") // 리뷰별 답글 조회와 ID 커서 페이지를 위한 인덱스
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.REPLY)
 public class Reply {
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -17,14 +24,18 @@ public class Reply {
   private String content;
   private LocalDateTime createdAt;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY) // 수정/삭제 권한은 작성자 ID로만 확인
   @JsonIgnore // 직렬화에서 제외
   private User user;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY) // 답글 조회시 리뷰까지 함께 조회하지 않음 (reviewId는 프록시에서 바로 얻음)
   @JsonIgnore
   private Review review;
 
+  @Version // 동시에 고친 답글은 덮어쓰지 않고 충돌로 실패
+  @JsonIgnore
+  private long version;
+
   @Transient // 데이터베이스에 저장되지 않음
   private Long reviewId;
 
@@ -63,4 +74,6 @@ public class Reply {
   public LocalDateTime getCreatedAt() { return createdAt; }
   public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
   public Long getId() { return id; }
+  public long getVersion() { return version; }
+  public Long getReviewId() { return review != null ? review.getId() : reviewId; }
 }
\ No newline at end of file
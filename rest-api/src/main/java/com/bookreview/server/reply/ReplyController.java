@@ -1,5 +1,9 @@
 package com.bookreview.server.reply;
 
+import com.bookreview.server.user.AuthenticatedUser;
+import com.bookreview.server.user.UserPrincipal;
+import com.bookreview.server.user.UserPrincipalCache;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -11,53 +15,77 @@ import java.util.List;
 @RestController
 public class ReplyController {
   private final ReplyService replyService; // 답글 관련 서비스 상수
+  private final UserPrincipalCache principalCache; // 인증 정보를 사용자 ID로 바꾸는 캐시
 
-  public ReplyController(ReplyService replyService) {
+  public ReplyController(ReplyService replyService, UserPrincipalCache principalCache) {
     this.replyService = replyService;
+    this.principalCache = principalCache;
   }
+
   @GetMapping("/replies")
-  public List<Reply> readReplies() {
-    return replyService.readReplies(); // 답글 목록 반환
+  public ResponseEntity<?> readReplies(@RequestParam(required = false) List<Long> reviewIds) {
+    if (reviewIds == null || reviewIds.isEmpty()) { // 전체 답글 조회는 지원하지 않음
+      return ResponseEntity.badRequest().body("reviewIds is required");
+    }
+
+    try {
+      return ResponseEntity.ok(replyService.readRepliesByReviewIds(reviewIds)); // 여러 리뷰의 답글 목록 반환
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(e.getMessage());
+    }
+  }
+
+  @GetMapping("/reviews/{reviewId}/replies")
+  public ResponseEntity<?> readReviewReplies(@PathVariable Long reviewId, @RequestParam(required = false) Integer size, @RequestParam(required = false) String cursor) {
+    try {
+      return ResponseEntity.ok(replyService.readReplyPage(reviewId, size, cursor)); // 한 리뷰의 답글 페이지 반환
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(e.getMessage());
+    }
   }
 
   @PostMapping("/replies/{reviewId}")
   public ResponseEntity<?> createReply(@PathVariable Long reviewId, @RequestBody Reply reply, @AuthenticationPrincipal Object principal) {
-    String username = extractUsername(principal); // 인증된 사용자의 이름을 추출
+    UserPrincipal user = extractPrincipal(principal); // 인증된 사용자의 ID와 이름을 추출
 
-    if (username == null) { // principal이 Jwt 또는 UserDetails가 아닌 경우
+    if (user == null) { // principal이 Jwt 또는 UserDetails가 아닌 경우
       return ResponseEntity.status(401).body("Unauthorized: Invalid principal"); // 401 Unauthorized 응답 반환
     }
 
-    return replyService.createReply(reviewId, reply, username); // 답글 등록 요청 처리
+    return replyService.createReply(reviewId, reply, user); // 답글 등록 요청 처리
   }
 
   @PutMapping("/replies/{reviewId}")
-  public ResponseEntity<?> updateReply(@PathVariable Long reviewId, @RequestBody Reply updatedReply, @AuthenticationPrincipal Object principal) {
-    String username = extractUsername(principal);
+  public ResponseEntity<?> updateReply(@PathVariable Long reviewId, @RequestBody Reply updatedReply, @AuthenticationPrincipal Object principal,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+    UserPrincipal user = extractPrincipal(principal);
 
-    if (username == null) {
+    if (user == null) {
       return ResponseEntity.status(401).body("Unauthorized: Invalid principal");
     }
 
-    return replyService.updateReply(reviewId, updatedReply, username); // 답글 수정 요청 처리
+    return replyService.updateReply(reviewId, updatedReply, user, ifMatch); // 답글 수정 요청 처리 (If-Match 가 현재 ETag 와 다르면 412)
   }
 
   @DeleteMapping("/replies/{reviewId}/{replyId}")
-  public ResponseEntity<?> deleteReply(@PathVariable Long reviewId, @PathVariable Long replyId, @AuthenticationPrincipal Object principal) {
-    String username = extractUsername(principal);
+  public ResponseEntity<?> deleteReply(@PathVariable Long reviewId, @PathVariable Long replyId, @AuthenticationPrincipal Object principal,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+    UserPrincipal user = extractPrincipal(principal);
 
-    if (username == null) {
+    if (user == null) {
       return ResponseEntity.status(401).body("Unauthorized: Invalid principal");
     }
 
-    return replyService.deleteReply(reviewId, replyId, username); // 답글 삭제 요청 처리
+    return replyService.deleteReply(reviewId, replyId, user, ifMatch); // 답글 삭제 요청 처리
   }
 
-  private String extractUsername(Object principal) { // 인증된 사용자의 이름을 추출하는 메서드
+  private UserPrincipal extractPrincipal(Object principal) { // 인증된 사용자의 ID와 이름을 추출하는 메서드
     if (principal instanceof Jwt) { // principal이 Jwt 인스턴스인 경우
-      return ((Jwt) principal).getClaimAsString("sub"); // Jwt에서 사용자 이름을 추출
+      return principalCache.get((Jwt) principal); // uid 클레임에서 사용자 ID를 추출 (없으면 캐시에서 사용자 이름으로 찾음)
+    } else if (principal instanceof AuthenticatedUser) { // 기본 인증으로 로그인한 경우
+      return new UserPrincipal(((AuthenticatedUser) principal).getId(), ((AuthenticatedUser) principal).getUsername());
     } else if (principal instanceof UserDetails) { // principal이 UserDetails 인스턴스인 경우
-      return ((UserDetails) principal).getUsername(); // UserDetails에서 사용자 이름을 추출
+      return principalCache.get(((UserDetails) principal).getUsername()); // UserDetails에서 사용자 이름을 추출
     }
 
     return null; // principal이 Jwt 또는 UserDetails가 아닌 경우 null 반환
@@ -0,0 +1,5 @@
+package com.bookreview.server.reply;
+
+import java.util.List;
+
+public record ReplyPage(List<ReplySummary> items, String nextCursor) {} // 답글 한 페이지와 다음 페이지 커서 (마지막 페이지면 null)
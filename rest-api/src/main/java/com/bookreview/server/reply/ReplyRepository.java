@@ -1,6 +1,30 @@
 package com.bookreview.server.reply;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ReplyRepository extends JpaRepository<Reply, Long> {
+  /* 목록 조회는 엔티티 대신 ReplySummary 로 작성자와 함께 한 번에 조회 */
+  String SUMMARY = "select new com.bookreview.server.reply.ReplySummary("
+      + "r.id, r.review.id, r.content, r.createdAt, u.id, u.username)"
+      + " from Reply r left join r.user u";
+
+  @Query(SUMMARY + " where r.review.id = :reviewId and r.id > :afterId order by r.id asc")
+  List<ReplySummary> findPageByReviewId(Long reviewId, Long afterId, Pageable pageable); // 한 리뷰의 답글을 ID 커서 이후부터 조회
+
+  @Query(SUMMARY + " where r.review.id in :reviewIds order by r.review.id asc, r.id asc")
+  List<ReplySummary> findByReviewIds(Collection<Long> reviewIds); // 여러 리뷰의 답글을 한 번의 쿼리로 조회
+
+  /* 리뷰마다 최신 답글 limit 개를 윈도 함수로 한 번에 조회 ((review_id, id) 인덱스 순서로 번호를 매김) → 리뷰 수만큼 쿼리하지 않음 */
+  @Query("select new com.bookreview.server.reply.ReplySummary(p.id, p.reviewId, p.content, p.createdAt, u.id, u.username)"
+      + " from (select r.id as id, r.review.id as reviewId, r.content as content, r.createdAt as createdAt, r.user.id as userId,"
+      + " row_number() over (partition by r.review.id order by r.id desc) as rn"
+      + " from Reply r where r.review.id in :reviewIds) p"
+      + " left join User u on u.id = p.userId"
+      + " where p.rn <= :limit order by p.reviewId asc, p.id asc")
+  List<ReplySummary> findLatestByReviewIds(Collection<Long> reviewIds, int limit); // 리뷰별 최신 답글 (각 리뷰 안에서는 오래된순)
 }
@@ -1,38 +1,84 @@
 package com.bookreview.server.reply;
 
+import com.bookreview.server.events.BookEventBroker;
+import com.bookreview.server.review.ETags;
+import com.bookreview.server.review.ReplyCountStore;
 import com.bookreview.server.review.Review;
 import com.bookreview.server.review.ReviewRepository;
-import com.bookreview.server.user.User;
+import com.bookreview.server.search.ReviewSearchIndex;
+import com.bookreview.server.user.UserPrincipal;
 import com.bookreview.server.user.UserRepository;
+import com.bookreview.server.user.UserSummary;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Transactional
 public class ReplyService {
+	static final int DEFAULT_PAGE_SIZE = 20; // 페이지 크기를 지정하지 않았을 때의 기본값
+	static final int MAX_PAGE_SIZE = 100; // 한 번에 내려줄 수 있는 최대 답글 수
+	static final int MAX_BATCH_REVIEW_IDS = 100; // 일괄 조회에서 한 번에 받을 수 있는 최대 리뷰 ID 수
+
 	private final ReplyRepository replyRepository;
 	private final ReviewRepository reviewRepository;
+	private final ReplyCountStore replyCountStore; // 리뷰의 답글 수를 답글 등록/삭제와 같은 트랜잭션에서 증감
 	private final UserRepository userRepository;
+	private final ReviewSearchIndex searchIndex; // 답글 내용 전문 검색 색인 (커밋 후 갱신)
+	private final BookEventBroker eventBroker; // 도서 상세 화면에 답글 변경을 보냄 (커밋 후)
 
-	public ReplyService(ReplyRepository replyRepository, ReviewRepository reviewRepository, UserRepository userRepository) {
+	public ReplyService(ReplyRepository replyRepository, ReviewRepository reviewRepository, ReplyCountStore replyCountStore, UserRepository userRepository,
+			ReviewSearchIndex searchIndex, BookEventBroker eventBroker) {
 		this.replyRepository = replyRepository;
 		this.reviewRepository = reviewRepository;
+		this.replyCountStore = replyCountStore;
 		this.userRepository = userRepository;
+		this.searchIndex = searchIndex;
+		this.eventBroker = eventBroker;
 	}
 
-	public List<Reply> readReplies() {
-		return replyRepository.findAll(); // 모든 답글을 조회하여 반환
+	@Transactional(readOnly = true) // 복제본이 있으면 복제본에서 읽음
+	public ReplyPage readReplyPage(Long reviewId, Integer size, String cursor) {
+		int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE)); // 페이지 크기는 최대값으로 제한
+		long afterId;
+
+		try {
+			afterId = cursor == null || cursor.isEmpty() ? 0L : Long.parseLong(cursor); // 커서는 이전 페이지의 마지막 답글 ID
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid cursor");
+		}
+
+		List<ReplySummary> replies = replyRepository.findPageByReviewId(reviewId, afterId, PageRequest.ofSize(pageSize + 1)); // 다음 페이지가 있는지 알기 위해 하나 더 조회
+
+		if (replies.size() <= pageSize) { // 마지막 페이지
+			return new ReplyPage(replies, null);
+		}
+
+		List<ReplySummary> items = replies.subList(0, pageSize);
+		return new ReplyPage(items, String.valueOf(items.get(pageSize - 1).id()));
 	}
 
-	public ResponseEntity<?> createReply(Long reviewId, Reply reply, String username) {
+	@Transactional(readOnly = true)
+	public List<ReplySummary> readRepliesByReviewIds(List<Long> reviewIds) {
+		if (reviewIds.size() > MAX_BATCH_REVIEW_IDS) { // 한 화면에 보이는 리뷰 수 이상은 한 번에 조회하지 않음
+			throw new IllegalArgumentException("Too many reviewIds (max " + MAX_BATCH_REVIEW_IDS + ")");
+		}
+
+		return replyRepository.findByReviewIds(new LinkedHashSet<>(reviewIds)); // 중복 ID 제거 후 리뷰 ID 인덱스로 한 번에 조회
+	}
+
+	public ResponseEntity<?> createReply(Long reviewId, Reply reply, UserPrincipal principal) {
 		try {
-			User user = userRepository.findByUsername(username); // 사용자 이름으로 사용자를 찾음
-			
-			if (user == null) {
+			if (principal == null || !userRepository.existsById(principal.id())) { // 토큰 발급 뒤 삭제된 사용자면 외래 키 오류 대신 400
 				return ResponseEntity.badRequest().body("User not found");
 			}
 
@@ -42,23 +88,25 @@ public class ReplyService {
 				return ResponseEntity.badRequest().body("Review not found");
 			}
 
-			reply.setUser(user); // 답글에 사용자 정보를 설정
+			reply.setUser(userRepository.getReferenceById(principal.id())); // 답글에 사용자 참조를 설정 (SELECT 없이 외래 키만 사용)
 			reply.setReview(review); // 답글에 리뷰 정보를 설정
 			reply.setCreatedAt(LocalDateTime.now()); // 답글 생성 시간을 현재 시간으로 설정
 
 			Reply savedReply = replyRepository.save(reply); // 답글을 저장
-			return ResponseEntity.ok(savedReply); // 성공적으로 저장된 답글을 반환
+			replyCountStore.replyAdded(review.getId(), review.getBookId());
+			searchIndex.indexReply(savedReply.getId(), review.getId(), review.getBookId(), savedReply.getContent(), savedReply.getCreatedAt());
+			ReplySummary created = ReplySummary.from(savedReply, author(principal));
+			eventBroker.publish(review.getBookId(), BookEventBroker.REPLY_CREATED, created);
+			return ResponseEntity.ok().eTag(etag(savedReply)).body(created); // 성공적으로 저장된 답글을 반환 (바로 수정할 때 If-Match 로 보낼 ETag 포함)
 		} catch (Exception e) {
 			e.printStackTrace(); // 예외 발생시 스택 트레이스 출력
 			return ResponseEntity.status(500).body("Internal Server Error: " + e.getMessage()); // 내부 서버 오류 발생시 에러 메시지를 반환
 		}
 	}
 
-	public ResponseEntity<?> updateReply(Long reviewId, Reply updatedReply, String username) {
+	public ResponseEntity<?> updateReply(Long reviewId, Reply updatedReply, UserPrincipal principal, String ifMatch) {
 		try {
-			User user = userRepository.findByUsername(username);
-
-			if (user == null) {
+			if (principal == null) {
 				return ResponseEntity.badRequest().body("User not found");
 			}
 
@@ -68,42 +116,86 @@ public class ReplyService {
 				return ResponseEntity.notFound().build(); // 404 Not Found 응답을 반환
 			}
 
-			if (!existingReply.getUser().getUsername().equals(username)) { // 답글 작성자와 현재 사용자 이름이 다른 경우
+			if (!isAuthor(existingReply, principal)) { // 답글 작성자와 현재 사용자가 다른 경우
 				return ResponseEntity.status(403).body("Forbidden: You can only edit your own replies"); // 403 Forbidden 응답을 반환
 			}
 
+			if (ETags.preconditionFailed(ifMatch, etag(existingReply))) { // 클라이언트가 읽은 뒤에 답글이 바뀌었으면
+				return preconditionFailed(etag(existingReply)); // 412 Precondition Failed 응답
+			}
+
 			existingReply.setContent(updatedReply.getContent()); // 답글 내용을 수정
-			return ResponseEntity.ok(replyRepository.save(existingReply)); // 수정된 답글을 저장하고 반환
+			Reply savedReply = replyRepository.saveAndFlush(existingReply); // 버전 확인을 커밋이 아니라 여기서 → 충돌하면 412
+			Review review = savedReply.getReview(); // 색인의 도서 ID (리뷰는 2차 캐시에서 읽음)
+			replyCountStore.replyEdited(review.getId(), review.getBookId()); // 목록의 최신 답글 미리보기가 바뀌므로 리뷰 ETag 도 바뀌도록
+			searchIndex.indexReply(savedReply.getId(), review.getId(), review.getBookId(), savedReply.getContent(), savedReply.getCreatedAt());
+			ReplySummary updated = ReplySummary.from(savedReply, author(principal));
+			eventBroker.publish(review.getBookId(), BookEventBroker.REPLY_UPDATED, updated);
+			return ResponseEntity.ok().eTag(etag(savedReply)).body(updated); // 수정된 답글을 저장하고 반환
+		} catch (ObjectOptimisticLockingFailureException e) { // 확인과 저장 사이에 다른 수정이 끼어든 경우
+			TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+			return preconditionFailed(null);
 		} catch (Exception e) {
 			e.printStackTrace();
 			return ResponseEntity.status(500).body("Internal Server Error: " + e.getMessage());
 		}
 	}
 
-	public ResponseEntity<?> deleteReply(Long reviewId, Long replyId, String username) {
+	public ResponseEntity<?> deleteReply(Long reviewId, Long replyId, UserPrincipal principal, String ifMatch) {
 		try {
-			User user = userRepository.findByUsername(username);
-
-			if (user == null) {
+			if (principal == null) {
 				return ResponseEntity.badRequest().body("User not found");
 			}
 
 			Reply reply = replyRepository.findById(replyId).orElse(null); // 답글 ID로 답글을 찾음
-			Review review = reviewRepository.findById(reviewId).orElse(null); // 리뷰 ID로 리뷰를 찾음
 
-			if (reply == null || review == null) { // 답글이나 리뷰가 존재하지 않는 경우
+			if (reply == null || !reply.getReview().getId().equals(reviewId)) { // 답글이 없거나 경로의 리뷰에 달린 답글이 아닌 경우
 				return ResponseEntity.notFound().build(); // 404 Not Found 응답을 반환
 			}
 
-			if (!reply.getUser().getUsername().equals(username)) { // 답글 작성자와 현재 사용자 이름이 다른 경우
+			if (!isAuthor(reply, principal)) { // 답글 작성자와 현재 사용자가 다른 경우
 				return ResponseEntity.status(403).body("Forbidden: You can only delete your own replies"); // 403 Forbidden 응답을 반환
 			}
 
+			if (ETags.preconditionFailed(ifMatch, etag(reply))) {
+				return preconditionFailed(etag(reply));
+			}
+
 			replyRepository.delete(reply); // 답글 삭제
+			replyRepository.flush(); // 버전 확인을 커밋이 아니라 여기서
+			Review review = reply.getReview(); // 답글이 실제로 달린 리뷰 (2차 캐시에서 읽음)
+			replyCountStore.replyRemoved(review.getId(), review.getBookId());
+			searchIndex.removeReply(replyId);
+			eventBroker.publish(review.getBookId(), BookEventBroker.REPLY_DELETED, Map.of("reviewId", review.getId(), "replyId", replyId));
 			return ResponseEntity.noContent().build(); // 204 No Content 응답을 반환
+		} catch (ObjectOptimisticLockingFailureException e) {
+			TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+			return preconditionFailed(null);
 		} catch (Exception e) {
 			e.printStackTrace();
 			return ResponseEntity.status(500).body("Internal Server Error: " + e.getMessage());
 		}
 	}
+
+	private static String etag(Reply reply) { // 답글 ETag 는 ID 와 버전으로 만듦
+		return ETags.of("reply", reply.getId(), reply.getVersion());
+	}
+
+	private static ResponseEntity<?> preconditionFailed(String etag) {
+		ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.PRECONDITION_FAILED);
+
+		if (etag != null) {
+			builder.eTag(etag); // 다시 읽지 않고 현재 값으로 재시도할 수 있도록
+		}
+
+		return builder.body("Precondition Failed: Reply has been modified");
+	}
+
+	private static boolean isAuthor(Reply reply, UserPrincipal principal) { // 작성자 프록시의 ID만 비교 (프록시를 초기화하지 않음)
+		return reply.getUser() != null && reply.getUser().getId().equals(principal.id());
+	}
+
+	private static UserSummary author(UserPrincipal principal) {
+		return new UserSummary(principal.id(), principal.username());
+	}
 }
@@ -0,0 +1,21 @@
+package com.bookreview.server.reply;
+
+import com.bookreview.server.user.UserSummary;
+
+import java.time.LocalDateTime;
+
+public record ReplySummary( // 답글 목록 응답용 레코드 (엔티티 대신 필요한 값만 한 번의 쿼리로 조회)
+    Long id,
+    Long reviewId,
+    String content,
+    LocalDateTime createdAt,
+    UserSummary user) { // 작성자 요약
+
+  public ReplySummary(Long id, Long reviewId, String content, LocalDateTime createdAt, Long userId, String username) { // JPQL 생성자 표현식용
+    this(id, reviewId, content, createdAt, new UserSummary(userId, username));
+  }
+
+  public static ReplySummary from(Reply reply, UserSummary user) { // 등록/수정 응답용 (작성자는 인증 정보로 채워 사용자를 읽지 않음)
+    return new ReplySummary(reply.getId(), reply.getReviewId(), reply.getContent(), reply.getCreatedAt(), user);
+  }
+}
@@ -0,0 +1,29 @@
+package com.bookreview.server.review;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "book_review_stats")
+public class BookReviewStats { // 도서별 리뷰 집계 (리뷰 등록/삭제와 좋아요 flush 때 BookReviewStatsStore 가 같은 트랜잭션에서 갱신)
+  @Id
+  private String bookId;
+
+  @Column(nullable = false)
+  private long reviewCount; // 리뷰 수
+
+  @Column(nullable = false)
+  private long likeTotal; // 도서의 모든 리뷰가 받은 좋아요 수의 합
+
+  private LocalDateTime latestReviewAt; // 가장 최근 리뷰의 작성 시각
+
+  protected BookReviewStats() {}
+
+  public String getBookId() { return bookId; }
+  public long getReviewCount() { return reviewCount; }
+  public long getLikeTotal() { return likeTotal; }
+  public LocalDateTime getLatestReviewAt() { return latestReviewAt; }
+}
@@ -0,0 +1,13 @@
+package com.bookreview.server.review;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface BookReviewStatsRepository extends JpaRepository<BookReviewStats, String> {
+  @Query("select new com.bookreview.server.review.BookSummary(s.bookId, s.reviewCount, s.likeTotal, s.latestReviewAt)"
+      + " from BookReviewStats s where s.bookId in :bookIds")
+  List<BookSummary> findSummaries(Collection<String> bookIds); // 기본 키로 한 번에 조회 (리뷰 테이블을 읽지 않음)
+}
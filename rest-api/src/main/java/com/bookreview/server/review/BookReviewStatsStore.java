@@ -0,0 +1,64 @@
+package com.bookreview.server.review;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@Repository
+public class BookReviewStatsStore implements SmartInitializingSingleton { // book_review_stats 를 증감 SQL 로 갱신하는 저장소 (읽고 쓰지 않으므로 동시 요청에도 값이 어긋나지 않음)
+  private static final String REVIEW_ADDED = "INSERT INTO book_review_stats (book_id, review_count, like_total, latest_review_at) VALUES (?, 1, 0, ?)"
+      + " ON DUPLICATE KEY UPDATE review_count = review_count + 1, latest_review_at = GREATEST(COALESCE(latest_review_at, ?), ?)";
+  // 가져오기(/admin/import)가 커밋 단위마다 도서별로 모아서 한 번에 더함 (도서 ID, 리뷰 수, 좋아요 수, 최신 작성 시각 순)
+  public static final String REVIEWS_IMPORTED = "INSERT INTO book_review_stats (book_id, review_count, like_total, latest_review_at) VALUES (?, ?, ?, ?)"
+      + " ON DUPLICATE KEY UPDATE review_count = review_count + ?, like_total = like_total + ?, latest_review_at = GREATEST(COALESCE(latest_review_at, ?), ?)";
+  private static final String REVIEW_REMOVED = "UPDATE book_review_stats SET review_count = review_count - 1,"
+      + " like_total = like_total - (SELECT like_count FROM review WHERE id = ?)," // 캐시된 엔티티가 아니라 DB의 좋아요 수를 뺌
+      + " latest_review_at = (SELECT MAX(created_at) FROM review WHERE book_id = ? AND id <> ?) WHERE book_id = ?"; // 최신 리뷰가 지워질 수 있으므로 인덱스(book_id, created_at)로 다시 구함
+  private static final String LIKES_CHANGED = "UPDATE book_review_stats SET like_total = like_total + ?"
+      + " WHERE book_id = (SELECT book_id FROM review WHERE id = ?)";
+  // 도서별로 review 에서 다시 세어 없는 행은 넣고 있는 행은 덮어씀 → 몇 번 실행해도 같은 결과
+  private static final String REBUILD = "INSERT INTO book_review_stats (book_id, review_count, like_total, latest_review_at)"
+      + " SELECT book_id, COUNT(*), SUM(like_count), MAX(created_at) FROM review GROUP BY book_id"
+      + " ON DUPLICATE KEY UPDATE review_count = VALUES(review_count), like_total = VALUES(like_total), latest_review_at = VALUES(latest_review_at)";
+
+  private static final Logger log = LoggerFactory.getLogger(BookReviewStatsStore.class);
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public BookReviewStatsStore(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public void reviewAdded(String bookId, LocalDateTime createdAt) { // 리뷰 저장과 같은 트랜잭션에서 호출
+    Timestamp timestamp = Timestamp.valueOf(createdAt);
+    jdbcTemplate.update(REVIEW_ADDED, bookId, timestamp, timestamp, timestamp);
+  }
+
+  public void reviewRemoved(Long reviewId, String bookId) { // 리뷰를 삭제하기 전에 같은 트랜잭션에서 호출
+    jdbcTemplate.update(REVIEW_REMOVED, reviewId, bookId, reviewId, bookId);
+  }
+
+  public void likesChanged(Long reviewId, long delta) { // 좋아요 flush 와 같은 트랜잭션에서 호출
+    jdbcTemplate.update(LIKES_CHANGED, delta, reviewId);
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() { // 스키마가 만들어진 뒤, 웹 서버가 요청을 받기 전에 채움
+    backfill();
+  }
+
+  public void backfill() { // 이 테이블이 생기기 전의 리뷰나 어긋난 집계가 있어도 시작할 때마다 review 기준으로 맞춤
+    try {
+      int books = jdbcTemplate.update(REBUILD); // 한 문장이므로 따로 트랜잭션이 필요 없음 (읽은 review 행은 문장이 끝날 때까지 잠김)
+      log.info("Rebuilt book_review_stats ({} rows affected)", books);
+    } catch (DataAccessException e) { // 다른 서버가 동시에 같은 행을 고치는 경우, 다음 시작 때 다시 맞춤
+      log.warn("Could not rebuild book_review_stats", e);
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package com.bookreview.server.review;
+
+import java.time.LocalDateTime;
+
+public record BookSummary( // 도서 목록 화면용 도서별 리뷰 요약
+    String bookId,
+    long reviewCount,
+    long likeTotal,
+    LocalDateTime latestReviewAt) { // 리뷰가 없으면 null
+
+  static BookSummary empty(String bookId) {
+    return new BookSummary(bookId, 0, 0, null);
+  }
+}
@@ -0,0 +1,63 @@
+package com.bookreview.server.review;
+
+import java.nio.charset.StandardCharsets;
+
+public final class ETags { // 강한 ETag 를 만들고 If-None-Match / If-Match 헤더와 비교 (리뷰와 답글이 함께 사용)
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private ETags() {
+  }
+
+  public static String of(Object... parts) { // 값들을 64비트 FNV-1a 로 섞은 값 → 인스턴스나 재시작과 관계없이 같은 값이면 같은 ETag
+    long hash = FNV_OFFSET;
+
+    for (Object part : parts) {
+      for (byte b : String.valueOf(part).getBytes(StandardCharsets.UTF_8)) {
+        hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+      }
+
+      hash = (hash ^ 0x1f) * FNV_PRIME; // 구분자 → ("ab", "c") 와 ("a", "bc") 가 다른 값
+    }
+
+    return "\"" + Long.toHexString(hash) + "\"";
+  }
+
+  public static boolean notModified(String ifNoneMatch, String etag) { // If-None-Match 는 약한 비교 (W/ 가 붙은 값도 같은 것으로 봄)
+    if (ifNoneMatch == null) {
+      return false;
+    }
+
+    etag = strip(etag);
+
+    for (String candidate : ifNoneMatch.split(",")) {
+      String value = candidate.trim();
+
+      if (value.equals("*") || strip(value).equals(etag)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  public static boolean preconditionFailed(String ifMatch, String etag) { // If-Match 는 강한 비교 (헤더가 없으면 조건 없이 진행)
+    if (ifMatch == null) {
+      return false;
+    }
+
+    for (String candidate : ifMatch.split(",")) {
+      String value = candidate.trim();
+
+      if (value.equals("*") || value.equals(etag)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static String strip(String value) {
+    return value.startsWith("W/") ? value.substring(2) : value;
+  }
+}
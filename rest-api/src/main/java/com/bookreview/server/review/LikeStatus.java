@@ -0,0 +1,3 @@
+package com.bookreview.server.review;
+
+public record LikeStatus(Long reviewId, boolean liked, long likeCount) {} // 좋아요/취소 후 호출한 사용자의 좋아요 여부와 리뷰의 좋아요 수
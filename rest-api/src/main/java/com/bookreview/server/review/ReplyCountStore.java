@@ -0,0 +1,93 @@
+package com.bookreview.server.review;
+
+import com.bookreview.server.cache.QueryGenerations;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Repository
+public class ReplyCountStore { // review.reply_count 를 증감 SQL 로 갱신하는 저장소 (읽고 쓰지 않으므로 동시에 답글을 달아도 값이 어긋나지 않음)
+  private static final String ADJUST_REPLY_COUNT = "UPDATE review SET reply_count = reply_count + ?, version = version + 1 WHERE id = ?"; // 버전도 올려 ETag 가 바뀜
+  private static final String TOUCH = "UPDATE review SET version = version + 1 WHERE id = ?";
+  private static final String REBUILD = "UPDATE review SET reply_count = (SELECT COUNT(*) FROM reply WHERE reply.review_id = review.id), version = version + 1";
+
+  private static final Logger log = LoggerFactory.getLogger(ReplyCountStore.class);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final EntityManagerFactory entityManagerFactory;
+  private final TopReviews topReviews;
+  private final QueryGenerations generations; // 캐시된 목록 중 답글이 바뀐 도서의 것만 다시 읽게 함
+
+  public ReplyCountStore(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory, TopReviews topReviews, QueryGenerations generations) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.entityManagerFactory = entityManagerFactory;
+    this.topReviews = topReviews;
+    this.generations = generations;
+  }
+
+  public void replyAdded(Long reviewId, String bookId) { // 답글 저장과 같은 트랜잭션에서 호출
+    adjust(reviewId, bookId, 1);
+  }
+
+  public void replyRemoved(Long reviewId, String bookId) { // 답글 삭제와 같은 트랜잭션에서 호출
+    adjust(reviewId, bookId, -1);
+  }
+
+  public void replyEdited(Long reviewId, String bookId) { // 답글 수는 그대로지만 목록의 최신 답글 미리보기가 바뀌므로 리뷰의 버전만 올림
+    jdbcTemplate.update(TOUCH, reviewId);
+    evictAfterCommit(reviewId, bookId);
+  }
+
+  private void adjust(Long reviewId, String bookId, long delta) {
+    jdbcTemplate.update(ADJUST_REPLY_COUNT, delta, reviewId);
+    evictAfterCommit(reviewId, bookId);
+  }
+
+  private void evictAfterCommit(Long reviewId, String bookId) { // 리뷰 목록 쿼리는 reply 테이블을 읽지 않으므로 답글이 바뀌어도 Hibernate가 무효화하지 않음 → 그 도서의 목록만 직접 무효화
+    Runnable evict = () -> {
+      Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+      cache.evictEntityData(Review.class, reviewId);
+      generations.bookChanged(bookId);
+      generations.reviewChanged(reviewId);
+      topReviews.reviewChanged(reviewId); // 메모리의 좋아요순 목록도 답글 수와 미리보기를 담고 있음
+    };
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      evict.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        evict.run();
+      }
+    });
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfill() { // 이 컬럼이 생기기 전의 답글이 있으면 시작할 때 한 번 채움
+    Integer replies = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reply", Integer.class);
+    Integer counted = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM review WHERE reply_count > 0", Integer.class);
+
+    if (replies == null || replies == 0 || counted == null || counted > 0) {
+      return;
+    }
+
+    try {
+      int reviews = jdbcTemplate.update(REBUILD);
+      log.info("Backfilled review.reply_count for {} reviews from {} replies", reviews, replies);
+    } catch (DataAccessException e) {
+      log.warn("Could not backfill review.reply_count", e);
+    }
+  }
+}
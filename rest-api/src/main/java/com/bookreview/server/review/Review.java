@@ -1,19 +1,25 @@
 package com.bookreview.server.review;
 
+import com.bookreview.server.cache.CacheRegions;
 import com.bookreview.server.reply.Reply;
 import com.bookreview.server.user.User;
 import com.fasterxml.jackson.annotation.*;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "review", indexes = {
-    @Index(name = "idx_bookid", columnList = "bookId")
+    @Index(name = "idx_bookid", columnList = "bookId, createdAt, id"), // 도서별 (작성일, ID) 커서 페이지 조회를 위한 복합 인덱스
+    @Index(name = "idx_book_top", columnList = "bookId, likeCount DESC, id") // 도서별 좋아요순 커서 페이지 조회 (좋아요 flush 가 like_count 를 바꾸면 DB 가 함께 갱신)
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.REVIEW) // likes, replies 컬렉션은 캐시하지 않음 (좋아요는 JDBC로 변경됨)
 public class Review {
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -26,17 +32,33 @@ public class Review {
   
   private String bookId;
 
-  @ElementCollection // likes는 String 타입의 리스트로, 사용자가 좋아요를 누른 리뷰의 ID를 저장
-  @JsonProperty("likes") // JSON 직렬화 시 "likes"라는 이름으로 변환
-  private List<String> likes= new ArrayList<>(); // 좋아요를 누른 리뷰의 ID를 저장하는 리스트
+  @ElementCollection // likes는 String 타입의 리스트로, 좋아요를 누른 사용자의 ID(사용자명 또는 세션 ID)를 저장
+  @CollectionTable(name = "review_like", joinColumns = @JoinColumn(name = "review_id"), uniqueConstraints = {
+      @UniqueConstraint(name = "uk_review_like", columnNames = {"review_id", "user_id"}) // 한 사용자는 한 리뷰에 한 번만 좋아요 가능
+  })
+  @Column(name = "user_id")
+  @JsonIgnore // 좋아요 목록은 응답에 포함하지 않음 (목록 조회는 likeCount와 liked만 내려줌)
+  private List<String> likes= new ArrayList<>(); // 좋아요를 누른 사용자의 ID를 저장하는 리스트
 
-  @ManyToOne // 리뷰는 하나의 사용자에 속함
+  @Column(nullable = false)
+  @JsonIgnore
+  private long likeCount; // 좋아요 수 (review_like 행 수와 함께 원자적으로 갱신되므로 목록 조회시 likes를 읽지 않아도 됨)
+
+  @Column(nullable = false, updatable = false) // 리뷰 수정이 캐시된 값으로 덮어쓰지 않도록 증감 SQL 로만 변경
+  @JsonIgnore
+  private long replyCount; // 답글 수 (답글 등록/삭제와 같은 트랜잭션에서 갱신되므로 목록 조회시 답글을 세지 않아도 됨)
+
+  @ManyToOne(fetch = FetchType.LAZY) // 리뷰는 하나의 사용자에 속함 (쓰기 경로는 ID만 비교하므로 작성자를 읽지 않음)
   @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"}) // User 엔티티의 Lazy Loading을 방지하기 위한 설정
   private User user;
 
   @OneToMany(mappedBy = "review", cascade = CascadeType.ALL, orphanRemoval = true) // 리뷰에 대한 댓글을 저장하는 리스트
   private List<Reply> replies;
 
+  @Version // 내용 수정은 Hibernate가, 좋아요/답글 수 변경은 증감 SQL 이 1씩 올림 → 동시에 고친 쪽은 잃어버리지 않고 충돌로 실패 (ETag 의 기준)
+  @JsonIgnore
+  private long version;
+
   public Review() {
     this.createdAt = LocalDateTime.now();
     this.likes = new ArrayList<>();
@@ -52,6 +74,10 @@ public class Review {
   public void setBookId(String bookId) { this.bookId = bookId; }
   public List<String> getLikes() { return likes; }
   public void setLikes(List<String> likes) { this.likes = likes; }
+  public long getLikeCount() { return likeCount; }
+  public void setLikeCount(long likeCount) { this.likeCount = likeCount; }
+  public long getReplyCount() { return replyCount; }
+  public long getVersion() { return version; }
   public User getUser() { return user; }
   public void setUser(User user) { this.user = user; }
   public List<Reply> getReplies() { return replies; }
@@ -1,15 +1,20 @@
 package com.bookreview.server.review;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 @RestController
 public class ReviewController {
+	static final String SESSION_HEADER = "X-Session-Id"; // 비로그인 사용자가 좋아요를 누를 때 보내는 세션 ID 헤더
+	static final String SESSION_PREFIX = "session:"; // 세션 ID로 만든 좋아요 사용자 ID의 접두사
+
 	private final ReviewService reviewService; // 리뷰 관련 서비스 상수
 
 	public ReviewController(ReviewService reviewService) {
@@ -17,8 +22,37 @@ public class ReviewController {
 	}
 
 	@GetMapping("/reviews")
-	public List<Review> readReviews(@RequestParam(required = false) String bookId) {
-		return reviewService.readReviews(bookId); // 리뷰 목록 요청 처리
+	public ResponseEntity<?> readReviews(@RequestParam(required = false) String bookId,
+			@RequestParam(required = false) String sort,
+			@RequestParam(required = false) Integer size,
+			@RequestParam(required = false) String cursor,
+			@AuthenticationPrincipal Jwt jwt,
+			@RequestHeader(value = SESSION_HEADER, required = false) String sessionId,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+			@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+		String likerId = likerId(jwt, sessionId); // 응답의 liked 값을 계산할 사용자 (없으면 모두 false)
+
+		try {
+			return reviewService.readReviewsIfModified(bookId, sort, size, cursor, likerId, ifNoneMatch, acceptEncoding); // 리뷰 목록 또는 커서 페이지 요청 처리 (바뀌지 않았으면 304)
+		} catch (IllegalArgumentException e) { // 잘못된 정렬 기준이나 커서
+			return ResponseEntity.badRequest().body(e.getMessage()); // 400 Bad Request 응답
+		}
+	}
+
+	@GetMapping("/reviews/{id}")
+	public ResponseEntity<?> readReview(@PathVariable Long id, @AuthenticationPrincipal Jwt jwt,
+			@RequestHeader(value = SESSION_HEADER, required = false) String sessionId,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		return reviewService.readReview(id, likerId(jwt, sessionId), ifNoneMatch); // 리뷰 한 개 조회 요청 처리 (바뀌지 않았으면 304)
+	}
+
+	@GetMapping("/reviews/summary")
+	public ResponseEntity<?> readBookSummaries(@RequestParam List<String> bookIds) { // 도서 목록 화면: 도서마다 리뷰 목록을 읽지 않고 요약만 한 번에
+		try {
+			return ResponseEntity.ok(reviewService.readBookSummaries(new LinkedHashSet<>(bookIds))); // 중복 제거, 요청 순서 유지
+		} catch (IllegalArgumentException e) { // 너무 많은 도서
+			return ResponseEntity.badRequest().body(e.getMessage());
+		}
 	}
 
 	@PostMapping("/reviews")
@@ -27,17 +61,44 @@ public class ReviewController {
 	}
 
 	@PutMapping("/reviews/{id}")
-	public ResponseEntity<?> updateReview(@PathVariable Long id, @RequestBody Review updatedReview, @AuthenticationPrincipal Jwt jwt) {
-		return reviewService.updateReview(id, updatedReview, jwt); // 리뷰 수정 요청 처리
+	public ResponseEntity<?> updateReview(@PathVariable Long id, @RequestBody Review updatedReview, @AuthenticationPrincipal Jwt jwt,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+		return reviewService.updateReview(id, updatedReview, jwt, ifMatch); // 리뷰 수정 요청 처리 (If-Match 가 현재 ETag 와 다르면 412)
 	}
 
-	@PutMapping("/reviews/{id}/like")
-	public ResponseEntity<?> toggleLike(@PathVariable Long id, @RequestBody List<String> newLikes) {
-		return reviewService.toggleLike(id, newLikes); // 리뷰 좋아요 토글 요청 처리
+	@PostMapping("/reviews/{id}/like")
+	public ResponseEntity<?> likeReview(@PathVariable Long id, @AuthenticationPrincipal Jwt jwt, @RequestHeader(value = SESSION_HEADER, required = false) String sessionId) {
+		String userId = likerId(jwt, sessionId);
+
+		if (userId == null) { // 로그인 사용자도 세션 ID도 없으면
+			return ResponseEntity.status(401).body("Unauthorized: Login or " + SESSION_HEADER + " is required");
+		}
+
+		return reviewService.likeReview(id, userId); // 호출한 사용자의 좋아요 추가 요청 처리
+	}
+
+	@DeleteMapping("/reviews/{id}/like")
+	public ResponseEntity<?> unlikeReview(@PathVariable Long id, @AuthenticationPrincipal Jwt jwt, @RequestHeader(value = SESSION_HEADER, required = false) String sessionId) {
+		String userId = likerId(jwt, sessionId);
+
+		if (userId == null) {
+			return ResponseEntity.status(401).body("Unauthorized: Login or " + SESSION_HEADER + " is required");
+		}
+
+		return reviewService.unlikeReview(id, userId); // 호출한 사용자의 좋아요 취소 요청 처리
 	}
 
 	@DeleteMapping("/reviews/{id}")
-	public ResponseEntity<?> deleteReview(@PathVariable Long id, @AuthenticationPrincipal Jwt jwt) {
-		return reviewService.deleteReview(id, jwt); // 리뷰 삭제 요청 처리
+	public ResponseEntity<?> deleteReview(@PathVariable Long id, @AuthenticationPrincipal Jwt jwt,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+		return reviewService.deleteReview(id, jwt, ifMatch); // 리뷰 삭제 요청 처리
+	}
+
+	private String likerId(Jwt jwt, String sessionId) { // 좋아요를 누른 사용자 ID: 로그인 사용자는 사용자명, 비로그인 사용자는 세션 ID
+		if (jwt != null) {
+			return jwt.getSubject();
+		}
+
+		return sessionId != null && !sessionId.isBlank() ? SESSION_PREFIX + sessionId : null; // 세션 ID로 다른 사용자명의 좋아요를 건드리지 못하도록 접두사를 붙임
 	}
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.bookreview.server.review;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public record ReviewCursor(ReviewSort sort, LocalDateTime createdAt, long likeCount, Long id) { // 마지막으로 내려준 리뷰의 (작성일, ID) 또는 좋아요순이면 (좋아요 수, ID) 위치를 나타내는 레코드
+  private static final String SEPARATOR = "|";
+
+  public ReviewCursor(ReviewSort sort, LocalDateTime createdAt, Long id) { // 작성일 기준 정렬의 커서
+    this(sort, createdAt, 0, id);
+  }
+
+  public static ReviewCursor of(ReviewSort sort, ReviewSummary review) { // 페이지의 마지막 리뷰로 다음 커서를 만듦 (좋아요순은 아직 반영되지 않은 좋아요를 합치기 전의 DB 값이어야 함)
+    return sort == ReviewSort.TOP
+        ? new ReviewCursor(sort, null, review.likeCount(), review.id())
+        : new ReviewCursor(sort, review.createdAt(), review.id());
+  }
+
+  public String encode() { // 클라이언트가 내부 구조에 의존하지 않도록 불투명한 문자열로 인코딩
+    String raw = sort.name() + SEPARATOR + (sort == ReviewSort.TOP ? likeCount : createdAt) + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static ReviewCursor decode(String token) { // 잘못된 토큰이면 IllegalArgumentException 발생
+    String[] parts;
+
+    try {
+      parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\" + SEPARATOR);
+    } catch (IllegalArgumentException e) { // Base64 형식이 아닌 경우
+      throw new IllegalArgumentException("Invalid cursor", e);
+    }
+
+    if (parts.length != 3) {
+      throw new IllegalArgumentException("Invalid cursor");
+    }
+
+    try {
+      ReviewSort sort = ReviewSort.valueOf(parts[0]);
+
+      return sort == ReviewSort.TOP
+          ? new ReviewCursor(sort, null, Long.parseLong(parts[1]), Long.parseLong(parts[2]))
+          : new ReviewCursor(sort, LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+    } catch (IllegalArgumentException | DateTimeParseException e) { // 정렬 기준, 날짜, 좋아요 수, ID 파싱 오류
+      throw new IllegalArgumentException("Invalid cursor", e);
+    }
+  }
+}
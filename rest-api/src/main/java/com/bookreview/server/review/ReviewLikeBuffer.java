@@ -0,0 +1,332 @@
+package com.bookreview.server.review;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * 좋아요/취소를 리뷰별로 메모리에 모았다가 주기적으로(또는 쌓인 변경 수가 임계값을 넘으면) DB에 한꺼번에 반영하는 write-behind 버퍼.
+ * 인기 리뷰에 좋아요가 몰려도 review 행의 잠금은 flush 마다 한 번만 잡히고, 조회시에는 아직 반영되지 않은 변경을 합쳐서 보여줌.
+ * 잠금은 synchronized 대신 ReentrantLock 을 사용 → 가상 스레드(virtual 프로파일)에서 대기해도 캐리어 스레드를 붙잡지 않음.
+ */
+@Component
+public class ReviewLikeBuffer {
+  private static final Logger log = LoggerFactory.getLogger(ReviewLikeBuffer.class);
+  static final int MAX_FLUSH_ATTEMPTS = 5; // 같은 리뷰의 flush 가 이 횟수만큼 연속으로 실패하면 변경을 버림 (매 주기 같은 오류를 반복하지 않음)
+
+  private final ReviewLikeStore store;
+  private final boolean enabled; // false면 버퍼 없이 바로 DB에 반영
+  private final long flushIntervalMs; // 주기적 flush 간격
+  private final int flushThreshold; // 쌓인 변경 수가 이 값 이상이면 즉시 flush 예약
+
+  private final ConcurrentHashMap<Long, PendingLikes> pending = new ConcurrentHashMap<>(); // 리뷰 ID별 대기 중인 변경 (리뷰 단위로 잠금을 나눔)
+  private final AtomicInteger pendingCount = new AtomicInteger(); // 전체 대기 중인 변경 수
+  private final AtomicBoolean flushRequested = new AtomicBoolean(); // 임계값 flush 가 이미 예약되었는지
+  private final ReentrantLock flushLock = new ReentrantLock(); // flush 는 한 번에 하나만 실행 (잠금을 쥔 채 DB에 반영)
+  private ScheduledExecutorService scheduler;
+
+  public ReviewLikeBuffer(ReviewLikeStore store,
+      @Value("${bookreview.likes.write-behind.enabled:true}") boolean enabled,
+      @Value("${bookreview.likes.flush-interval-ms:1000}") long flushIntervalMs,
+      @Value("${bookreview.likes.flush-threshold:500}") int flushThreshold) {
+    this.store = store;
+    this.enabled = enabled;
+    this.flushIntervalMs = flushIntervalMs;
+    this.flushThreshold = flushThreshold;
+  }
+
+  @PostConstruct
+  public void start() { // 주기적 flush 스케줄러 시작
+    if (!enabled) {
+      return;
+    }
+
+    scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "review-like-flush");
+      thread.setDaemon(true);
+      return thread;
+    });
+    scheduler.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stop() throws InterruptedException { // 종료시 남은 변경을 모두 DB에 반영
+    if (scheduler != null) {
+      scheduler.shutdown();
+      scheduler.awaitTermination(flushIntervalMs * 2, TimeUnit.MILLISECONDS);
+    }
+
+    flush();
+  }
+
+  public void like(Long reviewId, String bookId, String userId) {
+    change(reviewId, bookId, userId, true);
+  }
+
+  public void unlike(Long reviewId, String bookId, String userId) {
+    change(reviewId, bookId, userId, false);
+  }
+
+  private void change(Long reviewId, String bookId, String userId, boolean liked) {
+    if (!enabled) { // 버퍼를 쓰지 않으면 바로 반영
+      store.apply(reviewId, bookId, Map.of(userId, liked));
+      return;
+    }
+
+    boolean persisted = false; // 대기 중인 변경이 없을 때만 DB 상태를 읽음 (잠금 밖에서 읽어 리뷰 잠금을 짧게 유지)
+    PendingLikes readFor = null; // DB 상태를 읽을 때의 항목과 그때까지 끝난 flush 수
+    long readAt = 0;
+
+    while (true) {
+      PendingLikes likes = pending.computeIfAbsent(reviewId, id -> new PendingLikes(bookId));
+      long flushes;
+
+      likes.lock.lock();
+      try {
+        if (likes.retired) { // flush 가 빈 항목을 제거한 직후라면 새 항목으로 다시 시도
+          continue;
+        }
+
+        Boolean current = likes.states.get(userId);
+        Boolean inflight = likes.inflight.get(userId);
+
+        if (current != null || inflight != null || (readFor == likes && readAt == likes.flushes)) {
+          boolean wasLiked = current != null ? current : inflight != null ? inflight : persisted;
+
+          if (wasLiked != liked) { // 상태가 바뀌는 경우에만 기록
+            if (current == null) {
+              pendingCount.incrementAndGet();
+            }
+
+            likes.states.put(userId, liked);
+            likes.delta += liked ? 1 : -1;
+          }
+
+          requestFlushIfFull();
+          return;
+        }
+
+        flushes = likes.flushes; // DB 를 읽은 적이 없거나, 읽는 사이 flush 가 커밋해 반영 중인 변경을 비웠을 수 있음
+      } finally {
+        likes.lock.unlock();
+      }
+
+      persisted = store.isLiked(reviewId, userId); // 잠금 밖에서 읽고 다시 확인 (그 사이 끝난 flush 가 있으면 다시 읽음)
+      readFor = likes;
+      readAt = flushes;
+    }
+  }
+
+  public long pendingDelta(Long reviewId) { // 아직 반영되지 않은 좋아요 수 증감
+    PendingLikes likes = pending.get(reviewId);
+
+    if (likes == null) {
+      return 0;
+    }
+
+    likes.lock.lock();
+    try {
+      return likes.delta + likes.inflightDelta;
+    } finally {
+      likes.lock.unlock();
+    }
+  }
+
+  public Map<String, Boolean> pendingStates(Long reviewId) { // 아직 반영되지 않은 사용자별 좋아요 상태
+    PendingLikes likes = pending.get(reviewId);
+
+    if (likes == null) {
+      return Collections.emptyMap();
+    }
+
+    likes.lock.lock();
+    try {
+      if (likes.states.isEmpty() && likes.inflight.isEmpty()) {
+        return Collections.emptyMap();
+      }
+
+      Map<String, Boolean> states = new HashMap<>(likes.inflight);
+      states.putAll(likes.states); // 나중에 요청한 상태가 우선
+      return states;
+    } finally {
+      likes.lock.unlock();
+    }
+  }
+
+  public void discard(Long reviewId) { // 삭제된 리뷰의 대기 중인 변경을 버림 (리뷰 삭제가 커밋된 뒤 호출)
+    PendingLikes likes = pending.remove(reviewId);
+
+    if (likes == null) {
+      return;
+    }
+
+    likes.lock.lock();
+    try {
+      likes.retired = true; // 이미 이 항목을 잡은 flush 나 좋아요 요청은 새 항목으로 다시 시도
+      pendingCount.addAndGet(-likes.states.size());
+      likes.states = new HashMap<>();
+      likes.delta = 0;
+    } finally {
+      likes.lock.unlock();
+    }
+  }
+
+  public long pendingFingerprint(String bookId, String likerId) { // 도서의 리뷰에 아직 반영되지 않은 좋아요 수 증감과 사용자의 좋아요 상태를 섞은 값 (목록 ETag 용)
+    long fingerprint = 0;
+
+    for (Map.Entry<Long, PendingLikes> entry : pending.entrySet()) { // 대기 중인 리뷰는 flush 임계값 이하이므로 모두 훑어도 짧음
+      PendingLikes likes = entry.getValue();
+
+      if (!bookId.equals(likes.bookId)) {
+        continue;
+      }
+
+      likes.lock.lock();
+      try {
+        long delta = likes.delta + likes.inflightDelta;
+        Boolean liked = likerId == null ? null : likes.states.containsKey(likerId) ? likes.states.get(likerId) : likes.inflight.get(likerId);
+
+        if (delta != 0 || liked != null) { // 조회 결과에 합쳐지는 값과 같은 값만 섞음
+          fingerprint += mix(entry.getKey() * 31 + delta, liked == null ? 0 : liked ? 1 : 2); // 맵의 순회 순서와 관계없도록 더해서 합침
+        }
+      } finally {
+        likes.lock.unlock();
+      }
+    }
+
+    return fingerprint;
+  }
+
+  private static long mix(long value, long salt) { // SplitMix64 의 마무리 단계
+    long z = value * 0x9e3779b97f4a7c15L + salt;
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+
+  public void flush() { // 대기 중인 변경을 리뷰별로 한 트랜잭션씩 DB에 반영
+    flushLock.lock();
+    try {
+      flushRequested.set(false);
+
+      for (Map.Entry<Long, PendingLikes> entry : pending.entrySet()) {
+        Long reviewId = entry.getKey();
+        PendingLikes likes = entry.getValue();
+        Map<String, Boolean> batch;
+        long batchDelta;
+
+        likes.lock.lock();
+        try {
+          if (likes.states.isEmpty()) { // 한 주기 동안 변경이 없었던 리뷰는 맵에서 제거
+            likes.retired = true;
+            pending.remove(reviewId, likes);
+            continue;
+          }
+
+          batch = likes.states;
+          batchDelta = likes.delta;
+          likes.inflight = batch; // DB에 반영되는 동안에도 조회시 합산되도록 반영 중인 변경으로 옮김
+          likes.inflightDelta = batchDelta;
+          likes.states = new HashMap<>();
+          likes.delta = 0;
+          pendingCount.addAndGet(-batch.size());
+        } finally {
+          likes.lock.unlock();
+        }
+
+        boolean applied = false;
+
+        try {
+          store.apply(reviewId, likes.bookId, batch);
+          applied = true;
+        } catch (RuntimeException e) { // 실패한 변경은 새 변경이 없는 사용자에 한해 다시 대기열에 넣음
+          log.warn("Failed to flush {} like changes for review {}", batch.size(), reviewId, e);
+          restore(reviewId, likes, batch, batchDelta);
+        } finally {
+          likes.lock.lock(); // 커밋되었으면 DB 값에 포함되므로 반영 중인 변경을 비움
+          try {
+            likes.inflight = Collections.emptyMap();
+            likes.inflightDelta = 0;
+            likes.flushes++;
+
+            if (applied) {
+              likes.failures = 0;
+            }
+          } finally {
+            likes.lock.unlock();
+          }
+        }
+      }
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  private void restore(Long reviewId, PendingLikes likes, Map<String, Boolean> batch, long batchDelta) {
+    likes.lock.lock();
+    try {
+      if (likes.retired) { // 그 사이 리뷰가 삭제되어 버려진 항목
+        return;
+      }
+
+      if (++likes.failures >= MAX_FLUSH_ATTEMPTS) {
+        log.error("Dropping {} like changes for review {} after {} failed flushes", batch.size(), reviewId, likes.failures);
+        likes.failures = 0;
+        return;
+      }
+
+      batch.forEach((userId, liked) -> {
+        if (likes.states.putIfAbsent(userId, liked) == null) {
+          pendingCount.incrementAndGet();
+        }
+      });
+      likes.delta += batchDelta;
+    } finally {
+      likes.lock.unlock();
+    }
+  }
+
+  private void requestFlushIfFull() {
+    if (pendingCount.get() >= flushThreshold && scheduler != null && flushRequested.compareAndSet(false, true)) {
+      scheduler.execute(this::flushQuietly); // 요청 스레드에서는 flush 하지 않고 스케줄러에 맡김
+    }
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (RuntimeException e) {
+      log.warn("Like flush failed", e);
+    }
+  }
+
+  private static final class PendingLikes { // 한 리뷰에 대해 대기 중인 변경
+    final ReentrantLock lock = new ReentrantLock(); // 리뷰별 잠금
+    final String bookId; // 리뷰의 도서 ID (목록 ETag 에 도서의 대기 중인 변경을 섞기 위함)
+    Map<String, Boolean> states = new HashMap<>(); // 사용자 ID → 마지막으로 요청한 좋아요 상태
+    long delta; // 예상 좋아요 수 증감 (조회시 합산)
+    Map<String, Boolean> inflight = Collections.emptyMap(); // 지금 DB에 반영 중인 변경
+    long inflightDelta; // 지금 DB에 반영 중인 좋아요 수 증감
+    boolean retired; // 맵에서 제거되어 더 이상 사용하지 않는 항목
+    int failures; // 연속으로 실패한 flush 수
+    long flushes; // 끝난 flush 수 (좋아요 요청이 DB 를 읽는 사이 반영 중인 변경이 비워졌는지 확인)
+
+    PendingLikes(String bookId) {
+      this.bookId = bookId;
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package com.bookreview.server.review;
+
+import com.bookreview.server.cache.QueryGenerations;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class ReviewLikeStore { // review_like 행과 review.like_count를 JDBC 배치로 변경하는 저장소
+  private static final String INSERT_LIKE = "INSERT INTO review_like (review_id, user_id) SELECT id, ? FROM review WHERE id = ?"
+      + " AND NOT EXISTS (SELECT 1 FROM review_like WHERE review_id = ? AND user_id = ?)"; // 이미 있거나 리뷰가 삭제되었으면 0행 (외래 키 오류 없이 멱등)
+  private static final String DELETE_LIKE = "DELETE FROM review_like WHERE review_id = ? AND user_id = ?"; // 없으면 0행 (멱등)
+  private static final String ADJUST_LIKE_COUNT = "UPDATE review SET like_count = like_count + ?, version = version + 1 WHERE id = ?"; // 버전도 올려 ETag 가 바뀜
+  private static final String FIND_LIKE_COUNT = "SELECT like_count FROM review WHERE id = ?"; // 같은 트랜잭션에서 방금 바꾼 값을 읽음 (행 잠금을 잡고 있으므로 다른 flush 와 섞이지 않음)
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ReviewRepository reviewRepository;
+  private final BookReviewStatsStore statsStore;
+  private final EntityManagerFactory entityManagerFactory;
+  private final TopReviews topReviews; // 메모리의 좋아요순 목록 (좋아요 수가 바뀌면 그 자리에서 고침)
+  private final QueryGenerations generations; // 캐시된 목록 중 좋아요가 바뀐 도서의 것만 다시 읽게 함
+
+  public ReviewLikeStore(JdbcTemplate jdbcTemplate, ReviewRepository reviewRepository, BookReviewStatsStore statsStore, EntityManagerFactory entityManagerFactory,
+      TopReviews topReviews, QueryGenerations generations) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.reviewRepository = reviewRepository;
+    this.statsStore = statsStore;
+    this.entityManagerFactory = entityManagerFactory;
+    this.topReviews = topReviews;
+    this.generations = generations;
+  }
+
+  public boolean isLiked(Long reviewId, String userId) { // 사용자가 리뷰에 좋아요를 눌렀는지 DB에서 확인
+    // 요청 스레드에서 호출되므로 JdbcTemplate 대신 JPA 로 조회 → open-in-view 가 잡고 있는 커넥션을 함께 사용
+    // (트랜잭션 밖의 JdbcTemplate 은 커넥션을 하나 더 빌리므로, 부하가 몰리면 모든 요청이 두 번째 커넥션을 기다리며 풀이 멈춤)
+    return !reviewRepository.findLikedReviewIds(userId, List.of(reviewId)).isEmpty();
+  }
+
+  @Transactional
+  public long apply(Long reviewId, String bookId, Map<String, Boolean> states) { // 한 리뷰에 모인 좋아요 변경을 한 트랜잭션으로 반영하고 실제로 바뀐 좋아요 수를 반환
+    List<Object[]> inserts = new ArrayList<>();
+    List<Object[]> deletes = new ArrayList<>();
+
+    states.forEach((userId, liked) -> {
+      if (liked) {
+        inserts.add(new Object[] {userId, reviewId, reviewId, userId});
+      } else {
+        deletes.add(new Object[] {reviewId, userId});
+      }
+    });
+
+    long added = inserts.isEmpty() ? 0 : affectedRows(jdbcTemplate.batchUpdate(INSERT_LIKE, inserts)); // 추가된 행 수만큼 증가
+    long removed = deletes.isEmpty() ? 0 : affectedRows(jdbcTemplate.batchUpdate(DELETE_LIKE, deletes)); // 삭제된 행 수만큼 감소
+    long delta = added - removed;
+
+    if (added + removed > 0) { // 행 변경 결과로 좋아요 수를 한 번만 갱신 → 인기 리뷰의 행 잠금은 flush 마다 한 번 (수가 그대로여도 사용자별 liked 가 바뀌었으므로 버전은 올림)
+      jdbcTemplate.update(ADJUST_LIKE_COUNT, delta, reviewId);
+
+      if (delta != 0) {
+        statsStore.likesChanged(reviewId, delta); // 도서별 좋아요 합도 같은 트랜잭션에서
+
+        if (topReviews.tracking()) { // 증감이 아니라 DB 의 좋아요 수를 넘김 → 여러 인스턴스가 flush 해도 메모리 값이 어긋나지 않음
+          jdbcTemplate.query(FIND_LIKE_COUNT, rs -> {
+            long likeCount = rs.getLong(1);
+            topReviews.afterCommit(() -> topReviews.likeCountChanged(bookId, reviewId, likeCount));
+          }, reviewId);
+        }
+      }
+
+      evictAfterCommit(reviewId, bookId);
+    }
+
+    return delta;
+  }
+
+  private void evictAfterCommit(Long reviewId, String bookId) { // JDBC 변경은 Hibernate가 알지 못하므로 커밋 후 캐시된 리뷰와 그 도서의 리뷰 목록을 직접 무효화
+    Runnable evict = () -> {
+      Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+      cache.evictEntityData(Review.class, reviewId);
+      generations.bookChanged(bookId); // 영역 전체를 비우지 않음 → 좋아요가 계속 들어와도 다른 도서의 목록 캐시는 그대로
+      generations.reviewChanged(reviewId);
+    };
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      evict.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() { // 커밋 전에 비우면 다른 요청이 이전 값을 다시 캐시할 수 있음
+        evict.run();
+      }
+    });
+  }
+
+  private static long affectedRows(int[] counts) {
+    long sum = 0;
+
+    for (int count : counts) {
+      sum += Math.max(count, 0); // 드라이버가 SUCCESS_NO_INFO(-2)를 반환하는 경우는 0으로 취급
+    }
+
+    return sum;
+  }
+}
@@ -0,0 +1,7 @@
+package com.bookreview.server.review;
+
+public record ReviewListVersion( // 도서별 리뷰 목록이 바뀌었는지 판단하는 값 (목록 ETag 용)
+    long reviews, // 리뷰 수 (삭제)
+    long lastId, // 가장 큰 리뷰 ID (등록, ID 는 다시 쓰지 않음)
+    long versionSum) { // 버전 합 (수정, 좋아요/답글 변경마다 버전이 1씩 오르므로 어느 리뷰가 바뀌어도 커짐)
+}
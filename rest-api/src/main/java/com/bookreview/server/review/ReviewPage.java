@@ -0,0 +1,5 @@
+package com.bookreview.server.review;
+
+import java.util.List;
+
+public record ReviewPage(List<ReviewSummary> items, String nextCursor) {} // 리뷰 한 페이지와 다음 페이지 커서 (마지막 페이지면 null)
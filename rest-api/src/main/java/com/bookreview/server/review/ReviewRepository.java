@@ -1,9 +1,88 @@
 package com.bookreview.server.review;
 
+import com.bookreview.server.cache.CacheRegions;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
-  List<Review> findByBookId(String bookId); // bookId로 리뷰를 찾음
+  /* 목록 조회는 엔티티 대신 ReviewSummary 로 한 번에 조회 → 리뷰마다 작성자, 좋아요, 답글을 따로 읽지 않음 */
+  String SUMMARY = "select new com.bookreview.server.review.ReviewSummary("
+      + "r.id, r.bookId, r.content, r.createdAt, u.id, u.username, r.likeCount, r.replyCount)" // 답글 수는 답글을 세지 않고 컬럼에서 읽음
+      + " from Review r left join r.user u";
+  /* 캐시되는 쿼리는 세대 번호(QueryGenerations)를 패러미터로 받아 쿼리 캐시 키에 넣음 → 좋아요나 답글이 바뀐 도서(리뷰)의 결과만 다시 읽음 (세대는 1부터이므로 조건은 항상 참) */
+  String GENERATION = " and :generation > 0";
+
+  @Query(SUMMARY + " where r.bookId = :bookId" + GENERATION + " order by r.createdAt desc, r.id desc")
+  @QueryHints({ // 같은 도서의 리뷰 목록은 쿼리 캐시에서 읽음 (review, reply, users 테이블이 바뀌면 Hibernate가 무효화)
+      @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.REVIEW_SUMMARIES)
+  })
+  List<ReviewSummary> findSummariesByBookId(String bookId, long generation); // bookId로 리뷰 목록을 찾음
+
+  /* (bookId, createdAt, id) 복합 인덱스를 따라가는 커서 페이지 조회 → 몇 번째 페이지든 인덱스 탐색 비용이 같음 */
+  @Query(SUMMARY + " where r.bookId = :bookId" + GENERATION + " order by r.createdAt desc, r.id desc")
+  @QueryHints({ // 첫 페이지도 캐시 (커서 이후 페이지는 키가 많아 캐시하지 않음)
+      @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.REVIEW_SUMMARIES)
+  })
+  List<ReviewSummary> findNewestPage(String bookId, long generation, Pageable pageable); // 최신순 첫 페이지
+
+  @Query(SUMMARY + " where r.bookId = :bookId"
+      + " and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id))"
+      + " order by r.createdAt desc, r.id desc")
+  List<ReviewSummary> findNewestPageAfter(String bookId, LocalDateTime createdAt, Long id, Pageable pageable); // 최신순 커서 이후 페이지
+
+  @Query(SUMMARY + " where r.bookId = :bookId" + GENERATION + " order by r.createdAt asc, r.id asc")
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.REVIEW_SUMMARIES)
+  })
+  List<ReviewSummary> findOldestPage(String bookId, long generation, Pageable pageable); // 오래된순 첫 페이지
+
+  @Query(SUMMARY + " where r.bookId = :bookId"
+      + " and (r.createdAt > :createdAt or (r.createdAt = :createdAt and r.id > :id))"
+      + " order by r.createdAt asc, r.id asc")
+  List<ReviewSummary> findOldestPageAfter(String bookId, LocalDateTime createdAt, Long id, Pageable pageable); // 오래된순 커서 이후 페이지
+
+  /* (bookId, likeCount desc, id) 인덱스를 따라가는 좋아요순 페이지 조회 → 좋아요 목록을 읽어 메모리에서 정렬하지 않음 */
+  @Query(SUMMARY + " where r.bookId = :bookId order by r.likeCount desc, r.id asc")
+  List<ReviewSummary> findTopPage(String bookId, Pageable pageable); // 좋아요순 첫 페이지 (TopReviews 가 메모리에 없을 때 읽음, 좋아요마다 바뀌므로 쿼리 캐시는 쓰지 않음)
+
+  @Query(SUMMARY + " where r.bookId = :bookId"
+      + " and (r.likeCount < :likeCount or (r.likeCount = :likeCount and r.id > :id))"
+      + " order by r.likeCount desc, r.id asc")
+  List<ReviewSummary> findTopPageAfter(String bookId, long likeCount, Long id, Pageable pageable); // 좋아요순 커서 이후 페이지
+
+  @Query(value = "SELECT review_id FROM review_like WHERE user_id = :userId AND review_id IN (:reviewIds)", nativeQuery = true)
+  List<Long> findLikedReviewIds(String userId, Collection<Long> reviewIds); // 한 페이지의 리뷰 중 사용자가 좋아요를 누른 리뷰 ID
+
+  @Query(SUMMARY + " where r.id = :id" + GENERATION)
+  @QueryHints({ // 버전 조회와 같은 리뷰 세대로 캐시 → 함께 다시 읽힘
+      @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.REVIEW_SUMMARIES)
+  })
+  ReviewSummary findSummaryById(Long id, long generation); // 리뷰 한 개 조회 응답
+
+  @Query("select r.version from Review r where r.id = :id" + GENERATION)
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.REVIEW_SUMMARIES)
+  })
+  Long findVersionById(Long id, long generation); // 리뷰 ETag 용 버전 (없으면 null)
+
+  @Query("select new com.bookreview.server.review.ReviewListVersion(count(r), coalesce(max(r.id), 0), coalesce(sum(r.version), 0))"
+      + " from Review r where r.bookId = :bookId" + GENERATION)
+  @QueryHints({ // 목록과 같은 도서 세대로 캐시 → 목록이 바뀌면 함께 다시 읽히고, 그 전까지 304 응답은 보통 DB 를 읽지 않음
+      @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.REVIEW_SUMMARIES)
+  })
+  ReviewListVersion findListVersionByBookId(String bookId, long generation); // 도서별 목록 ETag 용 (리뷰 수, 최대 ID, 버전 합)
 }
@@ -1,40 +1,192 @@
 package com.bookreview.server.review;
 
-import com.bookreview.server.user.User;
+import com.bookreview.server.cache.QueryGenerations;
+import com.bookreview.server.events.BookEventBroker;
+import com.bookreview.server.reply.ReplyRepository;
+import com.bookreview.server.reply.ReplySummary;
+import com.bookreview.server.search.ReviewSearchIndex;
+import com.bookreview.server.user.UserPrincipal;
+import com.bookreview.server.user.UserPrincipalCache;
 import com.bookreview.server.user.UserRepository;
+import com.bookreview.server.user.UserSummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class ReviewService {
+	static final int DEFAULT_PAGE_SIZE = 20; // 페이지 크기를 지정하지 않았을 때의 기본값
+	static final int MAX_PAGE_SIZE = 50; // 한 번에 내려줄 수 있는 최대 리뷰 수
+	static final int MAX_SUMMARY_BOOKS = 100; // 한 번에 요약을 요청할 수 있는 최대 도서 수
+
 	private final ReviewRepository reviewRepository;
+	private final ReplyRepository replyRepository;
 	private final UserRepository userRepository;
+	private final UserPrincipalCache principalCache; // 토큰의 사용자 ID 클레임 (없으면 TTL 캐시) 으로 사용자를 얻음
+	private final ReviewLikeBuffer likeBuffer; // 좋아요 변경을 모아서 DB에 반영하는 write-behind 버퍼
+	private final BookReviewStatsRepository statsRepository;
+	private final BookReviewStatsStore statsStore; // 도서별 리뷰 수, 좋아요 합, 최근 리뷰 시각을 리뷰 등록/삭제와 함께 갱신
+	private final ReviewSearchIndex searchIndex; // 리뷰 내용 전문 검색 색인 (커밋 후 갱신)
+	private final BookEventBroker eventBroker; // 도서 상세 화면에 리뷰/좋아요 변경을 보냄 (커밋 후)
+	private final TopReviews topReviews; // 도서별 좋아요순 첫 페이지 (좋아요 flush 마다 메모리에서 갱신)
+	private final QueryGenerations generations; // 캐시되는 목록 쿼리의 도서별, 리뷰별 세대 번호
+	private final int replyPreviews; // 목록의 리뷰마다 함께 내려주는 최신 답글 수 (0이면 미리보기 없음)
 
-	public ReviewService(ReviewRepository reviewRepository, UserRepository userRepository) {
+	public ReviewService(ReviewRepository reviewRepository, ReplyRepository replyRepository, UserRepository userRepository, UserPrincipalCache principalCache,
+			ReviewLikeBuffer likeBuffer, BookReviewStatsRepository statsRepository, BookReviewStatsStore statsStore, ReviewSearchIndex searchIndex,
+			BookEventBroker eventBroker, TopReviews topReviews, QueryGenerations generations, @Value("${bookreview.reviews.reply-previews:3}") int replyPreviews) {
 		this.reviewRepository = reviewRepository;
+		this.replyRepository = replyRepository;
 		this.userRepository = userRepository;
+		this.principalCache = principalCache;
+		this.likeBuffer = likeBuffer;
+		this.statsRepository = statsRepository;
+		this.statsStore = statsStore;
+		this.searchIndex = searchIndex;
+		this.eventBroker = eventBroker;
+		this.topReviews = topReviews;
+		this.generations = generations;
+		this.replyPreviews = replyPreviews;
 	}
 
-	public List<Review> readReviews(String bookId) {
-		List<Review> reviews = bookId != null && !bookId.isEmpty() // bookId가 있으면
-			? reviewRepository.findByBookId(bookId) // 해당 도서의 리뷰를 찾음
+	@Transactional(readOnly = true) // ETag 와 본문을 한 트랜잭션(같은 복제본)에서 읽음 → 본문보다 새로운 ETag 가 나가지 않음
+	public ResponseEntity<?> readReviewsIfModified(String bookId, String sort, Integer size, String cursor, String likerId, String ifNoneMatch, String acceptEncoding) {
+		String etag = bookId != null && !bookId.isEmpty() ? listETag(bookId, sort, size, cursor, likerId) : null; // 도서가 없으면 빈 목록이므로 ETag 없음
+
+		if (etag != null && acceptEncoding != null && acceptEncoding.contains("gzip")) { // Tomcat 은 강한 ETag 가 붙은 응답을 압축하지 않으므로 (인코딩마다 바이트가 다름) gzip 을 받는 클라이언트에는 약한 ETag
+			etag = "W/" + etag;
+		}
+
+		if (etag != null && ETags.notModified(ifNoneMatch, etag)) { // 바뀌지 않았으면 목록을 조회하거나 직렬화하지 않음
+			return revalidated(ResponseEntity.status(HttpStatus.NOT_MODIFIED), etag).build(); // 304 Not Modified 응답
+		}
+
+		Object body = sort == null && size == null && cursor == null // 페이지 패러미터가 없으면 기존처럼 전체 목록
+			? readReviews(bookId, likerId)
+			: readReviewPage(bookId, sort, size, cursor, likerId); // 잘못된 정렬 기준이나 커서는 IllegalArgumentException
+
+		return etag != null ? revalidated(ResponseEntity.ok(), etag).body(body) : ResponseEntity.ok(body);
+	}
+
+	@Transactional(readOnly = true)
+	public ResponseEntity<?> readReview(Long id, String likerId, String ifNoneMatch) {
+		Long version = reviewRepository.findVersionById(id, generations.review(id)); // 버전만 먼저 조회 (쿼리 캐시)
+
+		if (version == null) {
+			return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Review not found"); // 404 Not Found 응답
+		}
+
+		String etag = reviewETag(id, version, likerId);
+
+		if (ETags.notModified(ifNoneMatch, etag)) {
+			return revalidated(ResponseEntity.status(HttpStatus.NOT_MODIFIED), etag).build(); // 304 Not Modified 응답
+		}
+
+		ReviewSummary review = reviewRepository.findSummaryById(id, generations.review(id));
+		return revalidated(ResponseEntity.ok(), etag).body(withLatestReplies(withLikes(List.of(review), likerId)).get(0));
+	}
+
+	@Transactional(readOnly = true) // 복제본이 있으면 복제본에서 읽음
+	public List<ReviewSummary> readReviews(String bookId, String likerId) {
+		List<ReviewSummary> reviews = bookId != null && !bookId.isEmpty() // bookId가 있으면
+			? reviewRepository.findSummariesByBookId(bookId, generations.book(bookId)) // 해당 도서의 리뷰를 작성자, 좋아요 수, 답글 수와 함께 한 번에 찾음
 			: new ArrayList<>(); // 없으면 빈 리스트 반환
-		
-		// for (Review review : reviews) { // 각 리뷰에 대한 답글 목록도 함께 로드
-		// 	if (review.getReplies() != null) {
-		// 		review.getReplies().size(); // Lazy loading 강제 실행
-		// 	}
-		// }
-		
-		return reviews;
+
+		return withLatestReplies(withLikes(reviews, likerId));
+	}
+
+	@Transactional(readOnly = true)
+	public List<BookSummary> readBookSummaries(Collection<String> bookIds) { // 요청한 순서대로 도서별 요약을 반환 (리뷰가 없는 도서는 0)
+		if (bookIds.size() > MAX_SUMMARY_BOOKS) {
+			throw new IllegalArgumentException("Too many bookIds: at most " + MAX_SUMMARY_BOOKS);
+		}
+
+		Map<String, BookSummary> found = statsRepository.findSummaries(bookIds).stream()
+			.collect(Collectors.toMap(BookSummary::bookId, Function.identity()));
+		List<BookSummary> summaries = new ArrayList<>(bookIds.size());
+
+		for (String bookId : bookIds) {
+			summaries.add(found.getOrDefault(bookId, BookSummary.empty(bookId)));
+		}
+
+		return summaries;
 	}
 
+	@Transactional(readOnly = true)
+	public ReviewPage readReviewPage(String bookId, String sort, Integer size, String cursor, String likerId) {
+		if (bookId == null || bookId.isEmpty()) { // 커서 페이지는 도서 단위로만 조회
+			throw new IllegalArgumentException("bookId is required");
+		}
+
+		ReviewSort reviewSort = ReviewSort.from(sort); // 정렬 기준 (기본값: 최신순)
+		int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE)); // 페이지 크기는 최대값으로 제한
+		Pageable limit = PageRequest.ofSize(pageSize + 1); // 다음 페이지가 있는지 알기 위해 하나 더 조회
+		List<ReviewSummary> reviews;
+
+		if (reviewSort == ReviewSort.TOP && (cursor == null || cursor.isEmpty())) { // 좋아요순 첫 페이지는 메모리의 top-K 에서 (답글 미리보기까지 붙여서 보관)
+			reviews = topReviews.firstPage(bookId, pageSize + 1,
+				count -> withLatestReplies(reviewRepository.findTopPage(bookId, PageRequest.ofSize(count))));
+			return page(reviews, pageSize, reviewSort, likerId, false);
+		}
+
+		if (cursor == null || cursor.isEmpty()) { // 첫 페이지
+			reviews = switch (reviewSort) {
+				case NEWEST -> reviewRepository.findNewestPage(bookId, generations.book(bookId), limit);
+				case OLDEST -> reviewRepository.findOldestPage(bookId, generations.book(bookId), limit);
+				case TOP -> reviewRepository.findTopPage(bookId, limit);
+			};
+		} else { // 커서 이후 페이지
+			ReviewCursor after = ReviewCursor.decode(cursor);
+
+			if (after.sort() != reviewSort) { // 다른 정렬 기준으로 만든 커서는 사용할 수 없음
+				throw new IllegalArgumentException("Cursor does not match sort: " + sort);
+			}
+
+			reviews = switch (reviewSort) {
+				case NEWEST -> reviewRepository.findNewestPageAfter(bookId, after.createdAt(), after.id(), limit);
+				case OLDEST -> reviewRepository.findOldestPageAfter(bookId, after.createdAt(), after.id(), limit);
+				case TOP -> reviewRepository.findTopPageAfter(bookId, after.likeCount(), after.id(), limit);
+			};
+		}
+
+		return page(reviews, pageSize, reviewSort, likerId, true);
+	}
+
+	private ReviewPage page(List<ReviewSummary> reviews, int pageSize, ReviewSort sort, String likerId, boolean loadReplies) { // pageSize + 1 개까지 읽은 결과를 한 페이지와 다음 커서로
+		List<ReviewSummary> items = reviews.size() <= pageSize ? reviews : reviews.subList(0, pageSize);
+		items = withLikes(items, likerId);
+
+		if (loadReplies) {
+			items = withLatestReplies(items);
+		}
+
+		if (reviews.size() <= pageSize) { // 마지막 페이지
+			return new ReviewPage(items, null);
+		}
+
+		return new ReviewPage(items, ReviewCursor.of(sort, reviews.get(pageSize - 1)).encode()); // 페이지의 마지막 리뷰를 다음 커서로 사용 (아직 반영되지 않은 좋아요를 합치기 전의 값)
+	}
+
+	@Transactional // 리뷰와 도서별 집계를 함께 저장
 	public ResponseEntity<?> createReview(Review review, Jwt jwt) {
 		try {
 			if (jwt == null) { // JWT가 없으면
@@ -46,10 +198,10 @@ public class ReviewService {
 					}});
 			}
 
-			String username = jwt.getSubject(); // JWT에서 사용자 이름을 가져옴
-			User user = userRepository.findByUsername(username); // 사용자 정보가 저장된 데이터에서 사용자 이름으로 사용자 정보를 찾음
+			UserPrincipal principal = principalCache.get(jwt); // JWT에서 사용자 ID와 이름을 가져옴 (사용자명으로 조회하지 않음)
 
-			if (user == null) { // 사용자가 존재하지 않으면
+			// uid 클레임은 조회 없이 믿으므로, 토큰 발급 뒤 삭제된 사용자면 외래 키 오류(500) 대신 404 (기본 키 조회 한 번, 쓰기에서만)
+			if (principal == null || !userRepository.existsById(principal.id())) { // 사용자가 존재하지 않으면
 				return ResponseEntity
 					.status(HttpStatus.NOT_FOUND) // 404 Not Found 응답
 					.body(new HashMap<String, String>() {{
@@ -57,7 +209,7 @@ public class ReviewService {
 					}});
 			}
 
-			review.setUser(user); // 리뷰에 사용자 정보를 설정
+			review.setUser(userRepository.getReferenceById(principal.id())); // 리뷰에 사용자 참조를 설정 (SELECT 없이 외래 키만 사용)
 
 			if (review.getBookId() == null || review.getBookId().isEmpty()) { // bookId가 없으면
 				return ResponseEntity
@@ -68,12 +220,19 @@ public class ReviewService {
 					}});
 			}
 
-			if (review.getLikes() == null) { // likes가 null이면
-				review.setLikes(new ArrayList<>()); // likes를 빈 리스트로 초기화
-			}
+			review.setLikes(new ArrayList<>()); // 새 리뷰의 좋아요는 클라이언트 값과 관계없이 빈 리스트로 시작
+			review.setLikeCount(0);
 
 			Review savedReview = reviewRepository.save(review); // 리뷰를 저장
-			return ResponseEntity.status(HttpStatus.CREATED).body(savedReview); // 201 Created 응답과 함께 저장된 리뷰를 반환
+			statsStore.reviewAdded(savedReview.getBookId(), savedReview.getCreatedAt()); // 도서의 리뷰 수와 최근 리뷰 시각 갱신
+			searchIndex.indexReview(savedReview.getId(), savedReview.getBookId(), savedReview.getContent(), savedReview.getCreatedAt());
+			ReviewSummary created = ReviewSummary.from(savedReview, author(principal), 0);
+			String bookId = savedReview.getBookId();
+			topReviews.afterCommit(() -> topReviews.reviewAdded(bookId));
+			eventBroker.publish(savedReview.getBookId(), BookEventBroker.REVIEW_CREATED, created);
+			return ResponseEntity.status(HttpStatus.CREATED) // 201 Created 응답과 함께 저장된 리뷰를 반환
+				.eTag(reviewETag(savedReview.getId(), savedReview.getVersion(), principal.username())) // 바로 수정할 때 If-Match 로 보낼 값
+				.body(created);
 		} catch (Exception e) {
 			return ResponseEntity
 				.status(HttpStatus.INTERNAL_SERVER_ERROR) // 500 Internal Server Error 응답
@@ -84,7 +243,7 @@ public class ReviewService {
 		}
 	}
 
-	public ResponseEntity<?> updateReview(Long id, Review updatedReview, Jwt jwt) {
+	public ResponseEntity<?> updateReview(Long id, Review updatedReview, Jwt jwt, String ifMatch) {
 		Review existingReview = reviewRepository.findById(id).orElse(null); // 리뷰 ID로 기존 리뷰를 찾음
 
 		if (existingReview == null) { // 리뷰가 존재하지 않으면
@@ -95,44 +254,165 @@ public class ReviewService {
 			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Unauthorized: Login is required"); // 401 Unauthorized 응답
 		}
 
-		String username = jwt.getSubject();
+		UserPrincipal principal = principalCache.get(jwt);
 
-		if (!existingReview.getUser().getUsername().equals(username)) { // 리뷰 작성자와 현재 사용자의 이름이 다르면
+		if (!isAuthor(existingReview, principal)) { // 리뷰 작성자와 현재 사용자가 다르면 (ID로 비교하므로 작성자를 읽지 않음)
 			return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Forbidden: You can only update your own reviews"); // 403 Forbidden 응답
 		}
 
-		if (updatedReview.getContent() != null) { // 수정된 리뷰 내용이 있으면
-			existingReview.setContent(updatedReview.getContent()); // 기존 리뷰 내용 수정
+		String etag = reviewETag(id, existingReview.getVersion(), principal.username());
+
+		if (ETags.preconditionFailed(ifMatch, etag)) { // 클라이언트가 읽은 뒤에 다른 요청이 리뷰를 바꿨으면
+			return preconditionFailed(etag); // 412 Precondition Failed 응답 (다시 읽고 수정하도록 현재 ETag 를 함께 보냄)
 		}
 
-		if (updatedReview.getLikes() != null) { // 수정된 좋아요 목록이 있으면
-			existingReview.setLikes(updatedReview.getLikes()); // 기존 리뷰의 좋아요 목록 수정
+		if (updatedReview.getContent() != null) { // 수정된 리뷰 내용이 있으면
+			existingReview.setContent(updatedReview.getContent()); // 기존 리뷰 내용 수정
 		}
 
 		existingReview.setId(id); // 리뷰 ID를 기존 ID로 설정
-		existingReview.setBookId(existingReview.getBookId()); // bookId는 기존 리뷰의 bookId로 설정
+		existingReview.setBookId(existingReview.getBookId()); // bookId는 기존 리뷰의 bookId로 설정 (좋아요는 좋아요 엔드포인트에서만 변경)
+
+		Review savedReview;
 
-		if (existingReview.getLikes() == null) {
-			existingReview.setLikes(new ArrayList<>());
+		try {
+			savedReview = reviewRepository.save(existingReview); // 수정된 리뷰를 저장 (읽은 뒤에 버전이 바뀌었으면 덮어쓰지 않고 실패)
+		} catch (ObjectOptimisticLockingFailureException e) { // 확인과 저장 사이에 다른 수정이나 좋아요 반영이 끼어든 경우
+			return preconditionFailed(null);
 		}
 
-		Review savedReview = reviewRepository.save(existingReview); // 수정된 리뷰를 저장
-		return ResponseEntity.ok(savedReview); // 200 OK 응답과 함께 저장된 리뷰를 반환
+		searchIndex.indexReview(savedReview.getId(), savedReview.getBookId(), savedReview.getContent(), savedReview.getCreatedAt());
+		topReviews.reviewChanged(id); // 메모리의 좋아요순 목록이 이전 내용을 담고 있으면 버림
+		ReviewSummary summary = ReviewSummary.from(savedReview, author(principal), savedReview.getReplyCount());
+		eventBroker.publish(savedReview.getBookId(), BookEventBroker.REVIEW_UPDATED, summary);
+		return ResponseEntity.ok() // 200 OK 응답과 함께 저장된 리뷰를 반환
+			.eTag(reviewETag(id, savedReview.getVersion(), principal.username()))
+			.body(withLikes(List.of(summary), principal.username()).get(0));
+	}
+
+	public ResponseEntity<?> likeReview(Long id, String userId) {
+		return changeLike(id, userId, true);
+	}
+
+	public ResponseEntity<?> unlikeReview(Long id, String userId) {
+		return changeLike(id, userId, false);
 	}
 
-	public ResponseEntity<?> toggleLike(Long id, List<String> newLikes) {
-		Review existingReview = reviewRepository.findById(id).orElse(null);
-		
-		if (existingReview == null) {
+	private ResponseEntity<?> changeLike(Long id, String userId, boolean liked) {
+		Review review = reviewRepository.findById(id).orElse(null); // 이벤트를 보낼 도서 ID (리뷰는 2차 캐시에서 읽음)
+
+		if (review == null) {
 			return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Review not found");
 		}
 
-		existingReview.setLikes(newLikes != null ? newLikes : new ArrayList<>()); // 새로운 좋아요 목록이 있으면 설정, 없으면 빈 리스트로 초기화
-		Review savedReview = reviewRepository.save(existingReview); // 수정된 리뷰를 저장
-		return ResponseEntity.ok(savedReview); // 200 OK 응답과 함께 저장된 리뷰를 반환
+		if (liked) {
+			likeBuffer.like(id, review.getBookId(), userId); // 호출한 사용자의 좋아요만 버퍼에 기록
+		} else {
+			likeBuffer.unlike(id, review.getBookId(), userId); // 호출한 사용자의 좋아요 취소만 버퍼에 기록
+		}
+
+		long likeCount = publishLikeCount(review);
+		return ResponseEntity.ok(new LikeStatus(id, liked, likeCount)); // 200 OK 응답과 함께 좋아요 상태를 반환
+	}
+
+	private long publishLikeCount(Review review) { // 좋아요 수를 구해서 도서 상세 화면에 보냄
+		// 이미 읽은 리뷰(2차 캐시)의 좋아요 수에 아직 반영되지 않은 변경을 합침 → 좋아요마다 좋아요 수를 다시 조회하지 않음 (flush 는 커밋 후 캐시된 리뷰를 비움)
+		long likeCount = review.getLikeCount() + likeBuffer.pendingDelta(review.getId());
+		eventBroker.publish(review.getBookId(), BookEventBroker.LIKE_CHANGED, Map.of("reviewId", review.getId(), "likeCount", likeCount));
+		return likeCount;
+	}
+
+	private String listETag(String bookId, String sort, Integer size, String cursor, String likerId) { // 목록 ETag: 도서의 리뷰 수, 최대 ID, 버전 합에 아직 반영되지 않은 좋아요와 요청한 사용자를 섞음
+		ReviewListVersion version = reviewRepository.findListVersionByBookId(bookId, generations.book(bookId));
+		return ETags.of(bookId, version.reviews(), version.lastId(), version.versionSum(), likeBuffer.pendingFingerprint(bookId, likerId),
+			likerId, sort, size, cursor, replyPreviews);
 	}
 
-	public ResponseEntity<?> deleteReview(Long id, Jwt jwt) {
+	private String reviewETag(Long id, long version, String likerId) { // 리뷰 ETag: 버전에 아직 반영되지 않은 좋아요와 요청한 사용자를 섞음
+		Boolean pending = likerId != null ? likeBuffer.pendingStates(id).get(likerId) : null;
+		return ETags.of(id, version, likeBuffer.pendingDelta(id), pending, likerId, replyPreviews);
+	}
+
+	private static ResponseEntity.BodyBuilder revalidated(ResponseEntity.BodyBuilder builder, String etag) {
+		return builder.eTag(etag)
+			.cacheControl(CacheControl.noCache().cachePrivate()) // 브라우저가 저장하되 쓸 때마다 If-None-Match 로 확인 (liked 가 사용자마다 다르므로 private)
+			.varyBy(HttpHeaders.AUTHORIZATION, ReviewController.SESSION_HEADER, HttpHeaders.ACCEPT);
+	}
+
+	private static ResponseEntity<?> preconditionFailed(String etag) {
+		ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.PRECONDITION_FAILED); // 412 Precondition Failed 응답
+
+		if (etag != null) {
+			builder.eTag(etag);
+		}
+
+		return builder.body("Precondition Failed: Review has been modified");
+	}
+
+	private List<ReviewSummary> withLikes(List<ReviewSummary> reviews, String likerId) { // 조회 결과에 아직 DB에 반영되지 않은 좋아요와 요청한 사용자의 좋아요 여부를 합침
+		if (reviews.isEmpty()) {
+			return reviews;
+		}
+
+		Set<Long> likedIds = new HashSet<>();
+
+		if (likerId != null) { // 좋아요 여부는 페이지의 리뷰 ID로 한 번에 조회
+			List<Long> ids = new ArrayList<>(reviews.size());
+
+			for (ReviewSummary review : reviews) {
+				ids.add(review.id());
+			}
+
+			likedIds.addAll(reviewRepository.findLikedReviewIds(likerId, ids));
+		}
+
+		List<ReviewSummary> merged = new ArrayList<>(reviews.size());
+
+		for (ReviewSummary review : reviews) {
+			Boolean pending = likerId != null ? likeBuffer.pendingStates(review.id()).get(likerId) : null; // 자신이 누른 좋아요가 바로 보이도록
+			boolean liked = pending != null ? pending : likedIds.contains(review.id());
+			merged.add(review.withLikes(review.likeCount() + likeBuffer.pendingDelta(review.id()), liked));
+		}
+
+		return merged;
+	}
+
+	private List<ReviewSummary> withLatestReplies(List<ReviewSummary> reviews) { // 답글이 있는 리뷰에 최신 답글을 붙임 (페이지 전체를 한 번의 윈도 쿼리로)
+		if (replyPreviews <= 0 || reviews.isEmpty()) {
+			return reviews;
+		}
+
+		Map<Long, List<ReplySummary>> latest = new HashMap<>();
+		List<Long> ids = new ArrayList<>();
+
+		for (ReviewSummary review : reviews) {
+			if (review.replyCount() > 0) { // 답글 수는 컬럼에 있으므로 답글이 없는 리뷰는 조회에서 뺌
+				ids.add(review.id());
+			}
+		}
+
+		for (int from = 0; from < ids.size(); from += MAX_PAGE_SIZE) { // 페이지가 없는 전체 목록은 IN 목록이 너무 길지 않게 나눠서 조회
+			for (ReplySummary reply : replyRepository.findLatestByReviewIds(ids.subList(from, Math.min(from + MAX_PAGE_SIZE, ids.size())), replyPreviews)) {
+				latest.computeIfAbsent(reply.reviewId(), id -> new ArrayList<>()).add(reply);
+			}
+		}
+
+		if (latest.isEmpty()) {
+			return reviews;
+		}
+
+		List<ReviewSummary> merged = new ArrayList<>(reviews.size());
+
+		for (ReviewSummary review : reviews) {
+			List<ReplySummary> replies = latest.get(review.id());
+			merged.add(replies == null ? review : review.withLatestReplies(replies));
+		}
+
+		return merged;
+	}
+
+	@Transactional // 리뷰 삭제와 도서별 집계를 함께 반영
+	public ResponseEntity<?> deleteReview(Long id, Jwt jwt, String ifMatch) {
 		if (jwt == null) {
 			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Unauthorized: Login is required");
 		}
@@ -143,13 +423,41 @@ public class ReviewService {
 			return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Review not found");
 		}
 
-		String username = jwt.getSubject();
-		
-		if (!review.getUser().getUsername().equals(username)) {
+		UserPrincipal principal = principalCache.get(jwt);
+
+		if (!isAuthor(review, principal)) {
 			return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Forbidden: You can only delete your own reviews");
 		}
 
-		reviewRepository.deleteById(id); // 리뷰를 삭제
+		String etag = reviewETag(id, review.getVersion(), principal.username());
+
+		if (ETags.preconditionFailed(ifMatch, etag)) {
+			return preconditionFailed(etag);
+		}
+
+		statsStore.reviewRemoved(id, review.getBookId()); // 리뷰 행이 남아 있을 때 좋아요 수를 빼고 최근 리뷰 시각을 다시 구함
+
+		try {
+			reviewRepository.delete(review); // 리뷰를 삭제
+			reviewRepository.flush(); // 버전 확인을 커밋이 아니라 여기서 → 충돌하면 412
+		} catch (ObjectOptimisticLockingFailureException e) {
+			TransactionAspectSupport.currentTransactionStatus().setRollbackOnly(); // 도서별 집계 변경도 되돌림
+			return preconditionFailed(null);
+		}
+		searchIndex.removeReview(id); // 리뷰와 함께 지워지는 답글도 색인에서 삭제
+		topReviews.afterCommit(() -> {
+			topReviews.reviewChanged(id); // 보관하지 않은 리뷰는 어차피 보관 중인 리뷰보다 뒤이므로 영향 없음
+			likeBuffer.discard(id); // 대기 중인 좋아요는 반영할 리뷰가 없음 (커밋 후에 들어온 좋아요는 INSERT 가 0행)
+		});
+		eventBroker.publish(review.getBookId(), BookEventBroker.REVIEW_DELETED, Map.of("reviewId", id));
 		return ResponseEntity.noContent().build(); // 204 No Content 응답을 반환하여 삭제 성공을 알림
 	}
+
+	private static boolean isAuthor(Review review, UserPrincipal principal) { // 작성자 프록시의 ID만 비교 (프록시를 초기화하지 않음)
+		return principal != null && review.getUser() != null && review.getUser().getId().equals(principal.id());
+	}
+
+	private static UserSummary author(UserPrincipal principal) {
+		return new UserSummary(principal.id(), principal.username());
+	}
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.bookreview.server.review;
+
+public enum ReviewSort { // 리뷰 목록 정렬 기준
+  NEWEST, // 최신순 (작성일 내림차순)
+  OLDEST, // 오래된순 (작성일 오름차순)
+  TOP; // 좋아요순 (좋아요 수 내림차순, 같으면 ID 오름차순)
+
+  public static ReviewSort from(String value) { // 요청 패러미터를 정렬 기준으로 변환, 없으면 최신순
+    if (value == null || value.isEmpty()) {
+      return NEWEST;
+    }
+
+    for (ReviewSort sort : values()) {
+      if (sort.name().equalsIgnoreCase(value)) {
+        return sort;
+      }
+    }
+
+    throw new IllegalArgumentException("Unknown sort: " + value);
+  }
+}
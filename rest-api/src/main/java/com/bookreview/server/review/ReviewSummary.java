@@ -0,0 +1,37 @@
+package com.bookreview.server.review;
+
+import com.bookreview.server.reply.ReplySummary;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.bookreview.server.user.UserSummary;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ReviewSummary( // 리뷰 목록 응답용 레코드 (엔티티 대신 필요한 값만 한 번의 쿼리로 조회)
+    Long id,
+    String bookId,
+    String content,
+    LocalDateTime createdAt,
+    UserSummary user, // 작성자 요약
+    long likeCount, // 좋아요 수
+    long replyCount, // 답글 수
+    boolean liked, // 요청한 사용자가 좋아요를 눌렀는지
+    @JsonInclude(JsonInclude.Include.NON_EMPTY) List<ReplySummary> latestReplies) { // 최신 답글 미리보기 (오래된순, 전체 답글은 /reviews/{id}/replies 로 따로 조회)
+
+  public ReviewSummary(Long id, String bookId, String content, LocalDateTime createdAt, Long userId, String username, long likeCount, long replyCount) { // JPQL 생성자 표현식용
+    this(id, bookId, content, createdAt, new UserSummary(userId, username), likeCount, replyCount, false, List.of());
+  }
+
+  public static ReviewSummary from(Review review, UserSummary user, long replyCount) { // 등록/수정 응답용 (작성자는 인증 정보로 채워 사용자를 읽지 않음)
+    return new ReviewSummary(review.getId(), review.getBookId(), review.getContent(), review.getCreatedAt(),
+        user, review.getLikeCount(), replyCount, false, List.of());
+  }
+
+  public ReviewSummary withLikes(long likeCount, boolean liked) { // 아직 반영되지 않은 좋아요와 요청한 사용자의 좋아요 여부를 합친 사본
+    return new ReviewSummary(id, bookId, content, createdAt, user, likeCount, replyCount, liked, latestReplies);
+  }
+
+  public ReviewSummary withLatestReplies(List<ReplySummary> latestReplies) {
+    return new ReviewSummary(id, bookId, content, createdAt, user, likeCount, replyCount, liked, latestReplies);
+  }
+}
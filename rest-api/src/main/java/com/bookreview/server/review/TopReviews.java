@@ -0,0 +1,195 @@
+package com.bookreview.server.review;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntFunction;
+
+@Component
+public class TopReviews { // 좋아요순 목록의 앞부분을 도서별로 메모리에 두고 좋아요가 반영될 때마다 그 자리에서 고치는 top-K 구조 → 인기 도서의 좋아요순 첫 페이지는 DB 를 읽지 않음
+  static final Comparator<ReviewSummary> ORDER = Comparator.comparingLong(ReviewSummary::likeCount).reversed()
+      .thenComparing(ReviewSummary::id); // findTopPage 와 같은 순서 (좋아요 수 내림차순, ID 오름차순)
+
+  private final int capacity; // 도서마다 보관하는 리뷰 수 (가장 큰 페이지 + 1 이상이어야 다음 페이지 여부까지 메모리에서 판단)
+  private final Cache<String, Ranking> rankings; // 좋아요순 첫 페이지를 읽은 도서만 (자주 읽히는 도서 max-books 개)
+  // 변경 횟수: DB 를 읽는 동안 변경이 있었으면 읽은 값을 보관하지 않음 (도서별은 해시로 나눈 구간마다, 도서를 모르는 변경은 전체)
+  private final AtomicLongArray bookVersions = new AtomicLongArray(64);
+  private final AtomicLong globalVersion = new AtomicLong();
+
+  public TopReviews(@Value("${bookreview.reviews.top.capacity:60}") int capacity, @Value("${bookreview.reviews.top.max-books:500}") long maxBooks,
+      @Value("${bookreview.reviews.top.ttl-seconds:60}") long ttlSeconds) {
+    this.capacity = capacity;
+    this.rankings = Caffeine.newBuilder()
+        .maximumSize(maxBooks)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds)) // 다른 인스턴스의 좋아요나 놓친 변경도 이 시간 안에는 DB 값으로 다시 맞춰짐
+        .build();
+  }
+
+  /* 좋아요순 첫 페이지를 limit 개까지 반환 (리뷰가 더 있으면 정확히 limit 개). 메모리에 없으면 loader(가져올 개수)로 DB 에서 읽어 보관 */
+  public List<ReviewSummary> firstPage(String bookId, int limit, IntFunction<List<ReviewSummary>> loader) {
+    if (limit > capacity) { // 보관하는 것보다 큰 페이지는 DB 에서
+      return loader.apply(limit);
+    }
+
+    Ranking cached = rankings.getIfPresent(bookId);
+    List<ReviewSummary> page = cached != null ? cached.first(limit) : null;
+
+    if (page != null) {
+      return page;
+    }
+
+    // 없거나, 좋아요가 줄어든 리뷰를 빼다 보니 한 페이지도 남지 않은 경우 → 맵 밖에서 DB 를 읽음
+    // (compute 안에서 읽으면 같은 해시 구간의 다른 도서까지 쿼리 동안 막히고, 가상 스레드는 그동안 캐리어 스레드를 붙잡음)
+    long version = version(bookId);
+    Ranking loaded = load(loader);
+
+    // 읽는 동안 변경이 없었고 그 사이 다른 요청이 넣은 것도 없을 때만 보관 (좋아요 반영과 같은 키의 compute 로 순서를 맞춤, 쿼리 없이 짧게)
+    rankings.asMap().compute(bookId, (key, current) -> current == cached && version(key) == version ? loaded : current);
+    return loaded.first(limit);
+  }
+
+  public void likeCountChanged(String bookId, Long reviewId, long likeCount) { // 좋아요 flush 가 커밋된 뒤 DB 의 좋아요 수로 호출
+    changed(bookId); // 지금 DB 를 읽고 있는 요청은 이전 값을 보관하지 않음
+    rankings.asMap().computeIfPresent(bookId, (key, ranking) -> ranking.update(reviewId, likeCount) ? ranking : null);
+  }
+
+  public void reviewAdded(String bookId) { // 새 리뷰는 좋아요 0, 가장 큰 ID 이므로 보관 중인 리뷰보다 항상 뒤 → 도서의 리뷰를 모두 보관하고 있을 때만 버림
+    changed(bookId);
+    rankings.asMap().computeIfPresent(bookId, (key, ranking) -> ranking.complete ? null : ranking);
+  }
+
+  public void reviewChanged(Long reviewId) { // 내용이나 답글 미리보기가 바뀌었거나 삭제된 리뷰를 보관 중인 도서만 버림 (리뷰 → 도서 색인 없이 훑음, 좋아요보다 드묾)
+    globalVersion.incrementAndGet(); // 어느 도서인지 모르므로 읽는 중인 모든 도서
+    rankings.asMap().values().removeIf(ranking -> ranking.contains(reviewId));
+  }
+
+  public void invalidateAll() { // 가져오기처럼 여러 도서의 리뷰가 한꺼번에 바뀐 경우
+    globalVersion.incrementAndGet();
+    rankings.invalidateAll();
+  }
+
+  public boolean tracking() { // 보관 중인 도서가 없으면 좋아요 flush 가 좋아요 수를 다시 읽지 않음
+    return rankings.estimatedSize() > 0;
+  }
+
+  public void afterCommit(Runnable change) { // 커밋 전에 고치면 다른 요청이 아직 커밋되지 않은 값을 DB 에서 다시 읽어 덮어쓸 수 있음
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      change.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        change.run();
+      }
+    });
+  }
+
+  private void changed(String bookId) {
+    bookVersions.incrementAndGet(stripe(bookId));
+  }
+
+  private long version(String bookId) { // 둘 다 늘어나기만 하므로 합이 같으면 둘 다 그대로
+    return globalVersion.get() + bookVersions.get(stripe(bookId));
+  }
+
+  private int stripe(String bookId) {
+    return Math.floorMod(bookId.hashCode(), bookVersions.length());
+  }
+
+  private Ranking load(IntFunction<List<ReviewSummary>> loader) {
+    List<ReviewSummary> loaded = loader.apply(capacity + 1); // 하나 더 읽어 도서의 리뷰를 모두 담았는지 확인
+
+    return loaded.size() > capacity
+        ? new Ranking(new ArrayList<>(loaded.subList(0, capacity)), false)
+        : new Ranking(new ArrayList<>(loaded), true);
+  }
+
+  private static final class Ranking { // 한 도서의 좋아요순 앞부분 (ORDER 로 정렬, 변경은 compute 안에서, 읽기는 잠금으로 보호)
+    private final List<ReviewSummary> items;
+    private final boolean complete; // 도서의 리뷰를 모두 담고 있는지 (아니면 담지 않은 리뷰는 모두 마지막 항목보다 뒤)
+    private final ReentrantLock lock = new ReentrantLock(); // synchronized 대신 → 가상 스레드에서 대기해도 캐리어 스레드를 붙잡지 않음 (ReviewLikeBuffer 와 같음)
+
+    private Ranking(List<ReviewSummary> items, boolean complete) {
+      this.items = items;
+      this.complete = complete;
+    }
+
+    private List<ReviewSummary> first(int limit) { // 답할 수 없으면 null (남은 항목이 limit 보다 적은데 뒤에 담지 않은 리뷰가 있음)
+      lock.lock();
+      try {
+        if (items.size() < limit && !complete) {
+          return null;
+        }
+
+        return List.copyOf(items.subList(0, Math.min(limit, items.size())));
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private boolean contains(Long reviewId) {
+      lock.lock();
+      try {
+        return indexOf(reviewId) >= 0;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private boolean update(Long reviewId, long likeCount) { // 그대로 쓸 수 있으면 true, 다시 읽어야 하면 false
+      lock.lock();
+      try {
+        int index = indexOf(reviewId);
+
+        if (index < 0) { // 담지 않은 리뷰: 마지막 항목보다 뒤에 있으면 영향 없음, 앞으로 올라왔으면 내용을 모르므로 다시 읽음
+          return !complete && !items.isEmpty() && compare(likeCount, reviewId, items.get(items.size() - 1)) > 0;
+        }
+
+        ReviewSummary last = items.get(items.size() - 1);
+        ReviewSummary changed = items.remove(index).withLikes(likeCount, false);
+
+        if (!complete && compare(likeCount, reviewId, last) > 0) { // 이전 마지막 항목보다 뒤로 밀려났으면 담지 않은 리뷰와의 순서를 알 수 없으므로 뺌
+          return true;
+        }
+
+        int position = 0;
+
+        while (position < items.size() && ORDER.compare(items.get(position), changed) < 0) { // K 가 작으므로 앞에서부터 자리를 찾음
+          position++;
+        }
+
+        items.add(position, changed);
+        return true;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private int indexOf(Long reviewId) {
+      for (int i = 0; i < items.size(); i++) {
+        if (items.get(i).id().equals(reviewId)) {
+          return i;
+        }
+      }
+
+      return -1;
+    }
+
+    private static int compare(long likeCount, Long reviewId, ReviewSummary other) { // (likeCount, reviewId) 가 other 보다 뒤면 양수
+      return likeCount != other.likeCount() ? Long.compare(other.likeCount(), likeCount) : reviewId.compareTo(other.id());
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package com.bookreview.server.search;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+public class ReviewSearchController {
+  private final ReviewSearchIndex searchIndex;
+
+  public ReviewSearchController(ReviewSearchIndex searchIndex) {
+    this.searchIndex = searchIndex;
+  }
+
+  @GetMapping("/reviews/search")
+  public ResponseEntity<?> search(@RequestParam(required = false) String q,
+      @RequestParam(required = false) String bookId,
+      @RequestParam(required = false) Integer page,
+      @RequestParam(required = false) Integer size) { // 리뷰와 답글 내용 전문 검색 (관련도 순)
+    try {
+      return ResponseEntity.ok(searchIndex.search(q, bookId, page, size));
+    } catch (IllegalArgumentException e) { // 검색어가 없거나 너무 깊은 페이지
+      return ResponseEntity.badRequest().body(e.getMessage());
+    }
+  }
+
+  @PostMapping("/admin/search/rebuild")
+  public ResponseEntity<?> rebuild() { // DB에서 색인을 다시 만듦 (관리자만, 끝날 때까지 응답하지 않음)
+    try {
+      return ResponseEntity.ok(Map.of("documents", searchIndex.rebuild()));
+    } catch (IllegalStateException e) { // 이미 다시 만드는 중
+      return ResponseEntity.status(409).body(e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,372 @@
+package com.bookreview.server.search;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * 리뷰와 답글 내용을 로컬 디스크의 Lucene 색인에 두고 검색하는 전문 검색 색인.
+ * ReviewService/ReplyService 의 등록/수정/삭제가 커밋된 뒤에 문서를 바꾸고, 색인 커밋(fsync)과 검색기 갱신은 주기적으로 모아서 함.
+ * 색인은 DB에서 언제든 다시 만들 수 있는 파생 데이터이므로, 색인 실패는 요청을 실패시키지 않고 로그만 남김.
+ */
+@Component
+public class ReviewSearchIndex {
+  static final String REVIEW = "review";
+  static final String REPLY = "reply";
+  static final int DEFAULT_PAGE_SIZE = 20; // 페이지 크기를 지정하지 않았을 때의 기본값
+  static final int MAX_PAGE_SIZE = 50; // 한 번에 내려줄 수 있는 최대 결과 수
+  static final int MAX_DEPTH = 1000; // 관련도 순으로 내려갈 수 있는 최대 순위 (깊은 페이지는 검색어를 좁혀야 함)
+  static final int MAX_QUERY_LENGTH = 200;
+
+  private static final int REBUILD_BATCH = 1000; // 다시 만들 때 한 번에 읽는 행 수 (ID 순 키셋 페이지)
+  private static final String REVIEW_BATCH = "SELECT id, book_id, content, created_at FROM review WHERE id > ? ORDER BY id LIMIT ?";
+  private static final String REPLY_BATCH = "SELECT p.id, p.review_id, r.book_id, p.content, p.created_at FROM reply p"
+      + " JOIN review r ON r.id = p.review_id WHERE p.id > ? ORDER BY p.id LIMIT ?";
+
+  private static final Logger log = LoggerFactory.getLogger(ReviewSearchIndex.class);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final String indexPath; // 비어 있으면 메모리 색인 (재시작하면 DB에서 다시 만듦)
+  private final long refreshIntervalMs; // 새 변경이 검색 결과에 보이기까지의 최대 지연
+  private final long commitIntervalMs; // 변경을 디스크에 커밋하는 간격 (비정상 종료시 그 사이 변경은 시작할 때 다시 만들어 복구)
+
+  private final Analyzer analyzer = new KoreanAnalyzer(); // 한국어는 형태소 단위("책이" → "책"), 영어는 소문자 단어 단위
+  private final ReentrantLock rebuildLock = new ReentrantLock(); // 다시 만들기는 한 번에 하나만
+  private final ReentrantLock replayLock = new ReentrantLock();
+  private List<IndexChange> replay; // 다시 만드는 동안 들어온 증분 변경 (끝난 뒤 다시 적용해서 읽은 이후의 변경을 잃지 않음)
+  private Directory directory;
+  private IndexWriter writer;
+  private SearcherManager searcherManager;
+  private ScheduledExecutorService scheduler;
+
+  public ReviewSearchIndex(JdbcTemplate jdbcTemplate,
+      @Value("${bookreview.search.index-path:}") String indexPath,
+      @Value("${bookreview.search.refresh-interval-ms:1000}") long refreshIntervalMs,
+      @Value("${bookreview.search.commit-interval-ms:30000}") long commitIntervalMs) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.indexPath = indexPath;
+    this.refreshIntervalMs = refreshIntervalMs;
+    this.commitIntervalMs = commitIntervalMs;
+  }
+
+  @PostConstruct
+  public void open() throws IOException {
+    if (indexPath == null || indexPath.isBlank()) {
+      log.warn("bookreview.search.index-path is not set; using an in-memory search index");
+      directory = new ByteBuffersDirectory();
+    } else {
+      Path path = Path.of(indexPath);
+      Files.createDirectories(path);
+      directory = FSDirectory.open(path);
+    }
+
+    writer = new IndexWriter(directory, new IndexWriterConfig(analyzer).setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+    searcherManager = new SearcherManager(writer, null);
+    scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "review-search-index");
+      thread.setDaemon(true);
+      return thread;
+    });
+    scheduler.scheduleWithFixedDelay(this::refreshQuietly, refreshIntervalMs, refreshIntervalMs, TimeUnit.MILLISECONDS);
+    scheduler.scheduleWithFixedDelay(this::commitQuietly, commitIntervalMs, commitIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void close() throws IOException, InterruptedException { // 종료시 남은 변경을 커밋
+    scheduler.shutdown();
+    scheduler.awaitTermination(10, TimeUnit.SECONDS);
+    searcherManager.close();
+    writer.close();
+    directory.close();
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuildIfEmpty() { // 색인이 없거나(처음 실행, 메모리 색인) 비어 있으면 시작한 뒤 백그라운드에서 DB로 채움
+    Integer reviews = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM review", Integer.class);
+
+    if (writer.getDocStats().numDocs == 0 && reviews != null && reviews > 0) {
+      scheduler.execute(() -> {
+        try {
+          rebuild();
+        } catch (RuntimeException e) {
+          log.warn("Search index rebuild failed", e);
+        }
+      });
+    }
+  }
+
+  public void indexReview(Long reviewId, String bookId, String content, LocalDateTime createdAt) { // 리뷰 등록/수정
+    afterCommit(w -> w.updateDocument(new Term("key", REVIEW + reviewId), document(REVIEW, reviewId, null, bookId, content, createdAt)));
+  }
+
+  public void removeReview(Long reviewId) { // 리뷰 삭제 (리뷰와 함께 지워지는 답글 문서도 삭제)
+    afterCommit(w -> w.deleteDocuments(new Term("reviewId", String.valueOf(reviewId))));
+  }
+
+  public void indexReply(Long replyId, Long reviewId, String bookId, String content, LocalDateTime createdAt) { // 답글 등록/수정
+    afterCommit(w -> w.updateDocument(new Term("key", REPLY + replyId), document(REPLY, reviewId, replyId, bookId, content, createdAt)));
+  }
+
+  public void removeReply(Long replyId) {
+    afterCommit(w -> w.deleteDocuments(new Term("key", REPLY + replyId)));
+  }
+
+  public SearchPage search(String q, String bookId, Integer page, Integer size) { // 관련도 순 검색 (bookId가 있으면 그 도서의 리뷰와 답글만)
+    if (q == null || q.isBlank() || q.length() > MAX_QUERY_LENGTH) {
+      throw new IllegalArgumentException("q is required (at most " + MAX_QUERY_LENGTH + " characters)");
+    }
+
+    int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    int pageNumber = page == null ? 0 : Math.max(0, page);
+    long depth = (pageNumber + 1L) * pageSize; // 큰 페이지 번호에서 int 가 넘치지 않도록
+
+    if (depth > MAX_DEPTH) {
+      throw new IllegalArgumentException("Page is too deep: at most " + MAX_DEPTH + " results");
+    }
+
+    SimpleQueryParser parser = new SimpleQueryParser(analyzer, "content"); // 사용자 입력에 문법 오류가 있어도 예외를 던지지 않는 파서 ("구문", -제외, * 접두어)
+    parser.setDefaultOperator(BooleanClause.Occur.MUST); // 모든 단어를 포함하는 문서만
+    Query text = parser.parse(q);
+
+    if (text == null) { // 조사나 불용어만 있어서 검색할 단어가 없음
+      return new SearchPage(List.of(), 0, null);
+    }
+
+    BooleanQuery.Builder query = new BooleanQuery.Builder().add(text, BooleanClause.Occur.MUST);
+
+    if (bookId != null && !bookId.isEmpty()) {
+      query.add(new TermQuery(new Term("bookId", bookId)), BooleanClause.Occur.FILTER); // 점수에 영향을 주지 않는 필터
+    }
+
+    try {
+      IndexSearcher searcher = searcherManager.acquire();
+      try {
+        TopDocs topDocs = searcher.search(query.build(), (int) depth);
+        StoredFields storedFields = searcher.storedFields();
+        ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+        List<SearchHit> items = new ArrayList<>();
+
+        for (int i = pageNumber * pageSize; i < scoreDocs.length; i++) {
+          items.add(hit(storedFields.document(scoreDocs[i].doc), scoreDocs[i].score));
+        }
+
+        boolean hasNext = topDocs.totalHits.value > depth && depth + pageSize <= MAX_DEPTH;
+        return new SearchPage(items, topDocs.totalHits.value, hasNext ? pageNumber + 1 : null);
+      } finally {
+        searcherManager.release(searcher);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public long rebuild() { // DB의 모든 리뷰와 답글로 색인을 다시 만들고 색인한 문서 수를 반환
+    if (!rebuildLock.tryLock()) {
+      throw new IllegalStateException("Search index rebuild is already running");
+    }
+
+    try {
+      setReplay(new ArrayList<>()); // 지우기 전에 기록을 시작해서, 읽은 행보다 나중에 커밋된 변경을 끝에 다시 적용
+      writer.deleteAll();
+      long count = rebuildReviews() + rebuildReplies();
+
+      List<IndexChange> changes = setReplay(null);
+      for (IndexChange change : changes) {
+        change.apply(writer);
+      }
+
+      writer.commit();
+      searcherManager.maybeRefresh();
+      log.info("Rebuilt search index: {} documents, {} changes replayed", count, changes.size());
+      return count;
+    } catch (IOException e) {
+      setReplay(null);
+      throw new UncheckedIOException(e);
+    } finally {
+      rebuildLock.unlock();
+    }
+  }
+
+  public void refresh() throws IOException { // 지금까지의 변경이 바로 검색되도록 검색기를 갱신
+    searcherManager.maybeRefreshBlocking();
+  }
+
+  private long rebuildReviews() throws IOException {
+    long lastId = 0;
+    long count = 0;
+
+    while (true) {
+      List<Document> batch = jdbcTemplate.query(REVIEW_BATCH, (rs, rowNum) -> document(REVIEW, rs.getLong("id"), null,
+          rs.getString("book_id"), rs.getString("content"), toLocalDateTime(rs.getTimestamp("created_at"))), lastId, REBUILD_BATCH);
+
+      if (batch.isEmpty()) {
+        return count;
+      }
+
+      writer.addDocuments(batch);
+      count += batch.size();
+      lastId = Long.parseLong(batch.get(batch.size() - 1).get("reviewId"));
+    }
+  }
+
+  private long rebuildReplies() throws IOException {
+    long lastId = 0;
+    long count = 0;
+
+    while (true) {
+      List<Document> batch = jdbcTemplate.query(REPLY_BATCH, (rs, rowNum) -> document(REPLY, rs.getLong("review_id"), rs.getLong("id"),
+          rs.getString("book_id"), rs.getString("content"), toLocalDateTime(rs.getTimestamp("created_at"))), lastId, REBUILD_BATCH);
+
+      if (batch.isEmpty()) {
+        return count;
+      }
+
+      writer.addDocuments(batch);
+      count += batch.size();
+      lastId = Long.parseLong(batch.get(batch.size() - 1).get("replyId"));
+    }
+  }
+
+  private void afterCommit(IndexChange change) { // DB 트랜잭션이 롤백되면 색인도 바꾸지 않음
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      apply(change);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        apply(change);
+      }
+    });
+  }
+
+  private void apply(IndexChange change) {
+    try {
+      change.apply(writer);
+    } catch (IOException | RuntimeException e) {
+      log.warn("Failed to update search index; run POST /admin/search/rebuild to repair it", e);
+      return;
+    }
+
+    replayLock.lock();
+    try {
+      if (replay != null) {
+        replay.add(change);
+      }
+    } finally {
+      replayLock.unlock();
+    }
+  }
+
+  private List<IndexChange> setReplay(List<IndexChange> changes) { // 기록 목록을 바꾸고 이전 목록을 반환
+    replayLock.lock();
+    try {
+      List<IndexChange> previous = replay;
+      replay = changes;
+      return previous;
+    } finally {
+      replayLock.unlock();
+    }
+  }
+
+  private void refreshQuietly() {
+    try {
+      searcherManager.maybeRefresh();
+    } catch (IOException | RuntimeException e) {
+      log.warn("Search index refresh failed", e);
+    }
+  }
+
+  private void commitQuietly() {
+    try {
+      if (writer.hasUncommittedChanges()) {
+        writer.commit();
+      }
+    } catch (IOException | RuntimeException e) {
+      log.warn("Search index commit failed", e);
+    }
+  }
+
+  private static Document document(String type, Long reviewId, Long replyId, String bookId, String content, LocalDateTime createdAt) {
+    Document document = new Document();
+    document.add(new StringField("key", type + (replyId != null ? replyId : reviewId), Field.Store.NO)); // 수정/삭제할 문서를 찾는 키
+    document.add(new StringField("type", type, Field.Store.YES));
+    document.add(new StringField("reviewId", String.valueOf(reviewId), Field.Store.YES)); // 리뷰를 지우면 답글 문서도 함께 지움
+
+    if (replyId != null) {
+      document.add(new StringField("replyId", String.valueOf(replyId), Field.Store.YES));
+    }
+
+    if (bookId != null) {
+      document.add(new StringField("bookId", bookId, Field.Store.YES));
+    }
+
+    if (createdAt != null) {
+      document.add(new StoredField("createdAt", createdAt.toString()));
+    }
+
+    document.add(new TextField("content", content != null ? content : "", Field.Store.YES));
+    return document;
+  }
+
+  private static SearchHit hit(Document document, float score) {
+    String replyId = document.get("replyId");
+    String createdAt = document.get("createdAt");
+    return new SearchHit(document.get("type"), Long.valueOf(document.get("reviewId")), replyId != null ? Long.valueOf(replyId) : null,
+        document.get("bookId"), document.get("content"), createdAt != null ? LocalDateTime.parse(createdAt) : null, score);
+  }
+
+  private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+    return timestamp != null ? timestamp.toLocalDateTime() : null;
+  }
+
+  @FunctionalInterface
+  private interface IndexChange {
+    void apply(IndexWriter writer) throws IOException;
+  }
+}
@@ -0,0 +1,12 @@
+package com.bookreview.server.search;
+
+import java.time.LocalDateTime;
+
+public record SearchHit( // 검색 결과 한 건 (리뷰 또는 답글)
+    String type, // "review" 또는 "reply"
+    Long reviewId, // 답글이면 답글이 달린 리뷰
+    Long replyId, // 리뷰면 null
+    String bookId,
+    String content,
+    LocalDateTime createdAt,
+    float score) {} // 관련도 (BM25)
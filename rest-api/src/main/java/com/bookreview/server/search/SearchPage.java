@@ -0,0 +1,5 @@
+package com.bookreview.server.search;
+
+import java.util.List;
+
+public record SearchPage(List<SearchHit> items, long total, Integer nextPage) {} // 관련도 순 검색 결과 한 페이지, 전체 적중 수, 다음 페이지 번호 (마지막 페이지면 null)
@@ -0,0 +1,34 @@
+package com.bookreview.server.serialization;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/*
+ * 요청/응답 본문을 JSON 외에 Smile(application/x-jackson-smile), CBOR(application/cbor) 로도 주고받음 (Accept / Content-Type 으로 협상).
+ * 세 형식 모두 스프링 부트가 spring.jackson.* 과 모듈 빈으로 설정한 같은 빌더로 만들어 날짜 형식, 모듈이 같음.
+ */
+@Configuration
+public class SerializationConfig {
+
+  @Bean
+  Module blackbirdModule() { // getter, 생성자, 레코드 접근자를 리플렉션 대신 LambdaMetafactory 로 만든 람다로 호출 (모든 ObjectMapper 에 등록됨)
+    return new BlackbirdModule();
+  }
+
+  @Bean
+  MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) { // 빌더 빈은 주입할 때마다 새로 만들어짐
+    return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+  }
+
+  @Bean
+  MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+  }
+}
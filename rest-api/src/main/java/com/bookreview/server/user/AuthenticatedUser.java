@@ -0,0 +1,17 @@
+package com.bookreview.server.user;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+public class AuthenticatedUser extends User { // 사용자 ID를 함께 담은 UserDetails (토큰 발급시 uid 클레임으로 사용)
+  private final Long id;
+
+  public AuthenticatedUser(Long id, String username, String password, Collection<? extends GrantedAuthority> authorities) {
+    super(username, password, authorities);
+    this.id = id;
+  }
+
+  public Long getId() { return id; }
+}
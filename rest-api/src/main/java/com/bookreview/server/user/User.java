@@ -1,9 +1,15 @@
 package com.bookreview.server.user;
 
+import com.bookreview.server.cache.CacheRegions;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity // jpa 엔티티 클래스라는 것을 나타냄
 @Table(name = "users") // 이 엔티티가 매핑될 테이블 이름을 users로 지정
+@Cacheable // 2차 캐시 대상 (리뷰, 답글의 작성자 조회가 DB까지 가지 않음)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USER)
 public class User {
   @Id // 필드를 기본 키로 지정
   @GeneratedValue(strategy = GenerationType.IDENTITY) // 자동 증가
@@ -11,6 +17,7 @@ public class User {
 
   @Column(unique = true) // 사용자명은 유일해야함을 명시
   private String username;
+  @JsonProperty(access = JsonProperty.Access.WRITE_ONLY) // 비밀번호(해시)는 요청에서만 받고 응답에는 포함하지 않음
   private String password;
   
   public User() {} // 기본 생성자
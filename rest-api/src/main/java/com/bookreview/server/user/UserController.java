@@ -1,25 +1,50 @@
 package com.bookreview.server.user;
 
+import com.bookreview.server.jwt.PasswordHashingExecutor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
 @RestController // @ResponseBody + @Controller: 자바 객체의 응답 데이터를 화면에 JSON 형식으로 전송하는 컨트롤러
 public class UserController {
   private final UserService userService; // 사용자 관련 서비스 상수
+  private final PasswordHashingExecutor hashingExecutor; // 비밀번호 해싱을 요청 스레드 밖에서 실행
+  private final AsyncTaskExecutor taskExecutor; // 해싱 뒤 저장을 실행 (해싱 풀 스레드가 DB를 기다리지 않도록)
 
-  public UserController(UserService userService) { // 생성자 초기화
+  public UserController(UserService userService, PasswordHashingExecutor hashingExecutor,
+      @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) AsyncTaskExecutor taskExecutor) { // 생성자 초기화
     this.userService = userService;
+    this.hashingExecutor = hashingExecutor;
+    this.taskExecutor = taskExecutor;
   }
   
   @PostMapping("/register")
-  public ResponseEntity<?> registerUser(@RequestBody User user) {
+  public CompletableFuture<ResponseEntity<?>> registerUser(@RequestBody User user) {
     try {
-      User savedUser = userService.registerUser(user); // 사용자 등록 서비스 호출
-      return ResponseEntity.ok(savedUser); // 서버에서 성공적으로 처리하면 사용자 데이터를 저장하여 반환
+      userService.checkUsernameAvailable(user.getUsername()); // 중복 확인은 요청 스레드에서 (이미 있으면 해싱하지 않음)
     } catch (RuntimeException e) {
-      return ResponseEntity.badRequest().body(e.getMessage()); // 오류 발생시 400 Bad Request 응답을 반환
+      return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(e.getMessage())); // 오류 발생시 400 Bad Request 응답을 반환
+    }
+
+    try {
+      return hashingExecutor.submit("register", () -> userService.encodePassword(user.getPassword())) // 해싱만 해싱 풀에서 실행하고 요청 스레드는 바로 반환 (비동기 응답)
+        .<ResponseEntity<?>>thenApplyAsync(encodedPassword -> {
+          try {
+            User savedUser = userService.registerUser(user, encodedPassword); // 사용자 등록 서비스 호출 (동시에 같은 이름으로 가입하면 유일 제약 위반)
+            return ResponseEntity.ok(savedUser); // 서버에서 성공적으로 처리하면 사용자 데이터를 저장하여 반환
+          } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage()); // 오류 발생시 400 Bad Request 응답을 반환
+          }
+        }, taskExecutor);
+    } catch (RejectedExecutionException e) { // 해싱 대기열이 가득 찬 경우
+      return CompletableFuture.completedFuture(hashingExecutor.tooManyRequests()); // 429 + Retry-After 응답
     }
   }
 }
@@ -0,0 +1,4 @@
+package com.bookreview.server.user;
+
+public record UserPrincipal(Long id, String username) { // 인증된 사용자 (쓰기 경로에서 사용자 조회 없이 ID로 참조를 만들 때 사용)
+}
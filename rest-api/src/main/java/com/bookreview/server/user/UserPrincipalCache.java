@@ -0,0 +1,100 @@
+package com.bookreview.server.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/*
+ * 사용자명 → ID 를 TTL 동안 메모리에 두는 캐시.
+ * 토큰에 uid 클레임이 있으면 DB나 캐시를 거치지 않고, 없으면(이전에 발급된 토큰) 캐시에서 ID를 찾음.
+ * 기본 인증(UserDetailsService)의 비밀번호 해시는 따로 더 짧은 TTL 로 둠 → DB에서 비밀번호를 바꾸면 이전 비밀번호는 그 시간 안에 거부됨.
+ * uid 클레임은 조회 없이 믿으므로, 사용자를 쓰는 요청(리뷰, 답글 등록)은 저장 전에 사용자가 있는지 확인함.
+ */
+@Component
+public class UserPrincipalCache {
+  public static final String USER_ID_CLAIM = "uid"; // JWT의 사용자 ID 클레임
+
+  private final UserRepository userRepository;
+  private final Cache<String, CachedUser> users; // 사용자명 → ID (비밀번호 해시는 담지 않음)
+  private final Cache<String, CachedUser> credentials; // 기본 인증용 사용자명 → ID, 비밀번호 해시
+
+  public UserPrincipalCache(UserRepository userRepository,
+      @Value("${bookreview.principals.ttl-seconds:300}") long ttlSeconds,
+      @Value("${bookreview.principals.credentials-ttl-seconds:30}") long credentialsTtlSeconds,
+      @Value("${bookreview.principals.max-size:10000}") long maxSize) {
+    this.userRepository = userRepository;
+    this.users = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds)) // 변경된 사용자 정보는 TTL 이내에 반영됨
+        .maximumSize(maxSize)
+        .build();
+    this.credentials = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofSeconds(credentialsTtlSeconds)) // 바뀐 비밀번호는 이 시간 안에 반영됨 (0 이면 캐시하지 않음)
+        .maximumSize(maxSize)
+        .build();
+  }
+
+  public UserPrincipal get(Jwt jwt) { // 검증된 토큰으로 인증된 사용자를 얻음 (없는 사용자면 null)
+    if (jwt == null) {
+      return null;
+    }
+
+    Object userId = jwt.getClaims().get(USER_ID_CLAIM);
+
+    if (userId instanceof Number number) { // uid 클레임이 있으면 조회하지 않음
+      return new UserPrincipal(number.longValue(), jwt.getSubject());
+    }
+
+    return get(jwt.getSubject());
+  }
+
+  public UserPrincipal get(String username) { // 사용자명으로 인증된 사용자를 얻음 (없는 사용자면 null)
+    CachedUser user = find(username);
+    return user != null ? new UserPrincipal(user.id(), user.username()) : null;
+  }
+
+  public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+    CachedUser user = username != null ? credentials.get(username, this::load) : null;
+
+    if (user == null) {
+      throw new UsernameNotFoundException("User not found: " + username);
+    }
+
+    // 인증 후 비밀번호를 지우는 eraseCredentials 가 캐시된 값을 바꾸지 않도록 매번 새 객체를 반환
+    return new AuthenticatedUser(user.id(), user.username(), user.password(), AuthorityUtils.createAuthorityList("USER"));
+  }
+
+  public void evict(String username) { // 사용자 정보가 바뀌었을 때 캐시에서 제거
+    users.invalidate(username);
+    credentials.invalidate(username);
+  }
+
+  private CachedUser find(String username) {
+    if (username == null) {
+      return null;
+    }
+
+    return users.get(username, key -> { // 없는 사용자는 캐시하지 않음 (null 반환)
+      CachedUser user = load(key);
+      return user != null ? new CachedUser(user.id(), user.username(), null) : null; // 비밀번호 해시는 긴 TTL 로 두지 않음
+    });
+  }
+
+  private CachedUser load(String username) {
+    User user = userRepository.findByUsername(username);
+    return user != null ? new CachedUser(user.getId(), user.getUsername(), user.getPassword()) : null;
+  }
+
+  private record CachedUser(Long id, String username, String password) {
+    @Override
+    public String toString() { // 로그에 비밀번호 해시가 남지 않도록
+      return "CachedUser[id=" + id + ", username=" + username + "]";
+    }
+  }
+}
@@ -1,7 +1,15 @@
 package com.bookreview.server.user;
 
+import com.bookreview.server.cache.CacheRegions;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface UserRepository extends JpaRepository<User, Long> { // JpaRepository 는 crud 기능을 자동으로 제공
+  @QueryHints({ // 결과(사용자 ID)는 쿼리 캐시에, 사용자는 엔티티 캐시에 두어 요청마다 users 테이블을 조회하지 않음
+      @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.USER_BY_USERNAME)
+  })
   User findByUsername(String username); // 사용자명으로 사용자 정보를 조회
 }
\ No newline at end of file
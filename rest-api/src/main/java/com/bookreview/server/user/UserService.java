@@ -13,12 +13,18 @@ public class UserService {
 		this.passwordEncoder = passwordEncoder;
 	}
 
-	public User registerUser(User user) {
-		if (userRepository.findByUsername(user.getUsername()) != null) { // 사용자명이 존재하면
+	public void checkUsernameAvailable(String username) {
+		if (userRepository.findByUsername(username) != null) { // 사용자명이 존재하면
 			throw new RuntimeException("Username already exists"); // 400 Bad Request 예외 발생
 		}
-		
-		user.setPassword(passwordEncoder.encode(user.getPassword())); // 비밀번호는 PasswordEncoder로 인코딩하고
+	}
+
+	public String encodePassword(String rawPassword) { // BCrypt 해싱만 (DB 접근 없음 → 해싱 풀에서 실행)
+		return passwordEncoder.encode(rawPassword);
+	}
+
+	public User registerUser(User user, String encodedPassword) {
+		user.setPassword(encodedPassword); // 비밀번호는 PasswordEncoder로 인코딩한 값으로
 		
 		return userRepository.save(user); // 사용자 정보를 db에 저장하고 반환
 	}
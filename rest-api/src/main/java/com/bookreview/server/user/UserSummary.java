@@ -0,0 +1,7 @@
+package com.bookreview.server.user;
+
+public record UserSummary(Long id, String username) { // 응답에 포함하는 작성자 요약 (비밀번호 등 나머지 정보는 제외)
+  public static UserSummary from(User user) {
+    return user != null ? new UserSummary(user.getId(), user.getUsername()) : null;
+  }
+}
@@ -0,0 +1,107 @@
+package com.bookreview.server.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWriteRoutingDataSourceTest {
+  private DataSource primary;
+  private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate readOnly;
+  private TransactionTemplate readWrite;
+
+  @BeforeEach
+  void setUp() {
+    primary = database("primary");
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void routesReadOnlyTransactionsToReplicasInTurn() {
+    route(List.of(database("replica-a"), database("replica-b")), 0);
+
+    assertThat(List.of(readOnly(), readOnly(), readOnly())).containsExactly("replica-a", "replica-b", "replica-a");
+    String written = readWrite.execute(status -> node());
+    assertThat(written).isEqualTo("primary");
+    assertThat(node()).isEqualTo("primary"); // 트랜잭션 밖은 primary
+  }
+
+  @Test
+  void readsOwnWritesFromPrimaryForAWhile() throws Exception {
+    ReadWriteRoutingDataSource routing = route(List.of(database("replica")), 200);
+    SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("alice", null, "ROLE_USER"));
+
+    readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+
+    assertThat(readOnly()).isEqualTo("primary"); // 방금 쓴 사용자는 primary 에서 읽음
+    assertThat(routing.routesReadsToReplica()).isFalse(); // primary 에서 읽으므로 2차 캐시를 채워도 됨
+    SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("bob", null, "ROLE_USER"));
+    assertThat(readOnly()).isEqualTo("replica"); // 다른 사용자는 그대로 복제본
+    assertThat(routing.routesReadsToReplica()).isTrue();
+
+    Thread.sleep(300);
+    SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("alice", null, "ROLE_USER"));
+    assertThat(readOnly()).isEqualTo("replica");
+  }
+
+  @Test
+  void skipsReplicasThatAreDown() {
+    DriverManagerDataSource broken = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";IFEXISTS=TRUE", "sa", ""); // 없는 DB → 연결 실패
+    ReadWriteRoutingDataSource routing = route(List.of(broken, database("replica")), 0);
+
+    assertThat(List.of(readOnly(), readOnly(), readOnly())).containsOnly("replica");
+    assertThat(routing.healthyReplicas()).isEqualTo(1);
+
+    routing.checkReplicas(); // 여전히 내려가 있음
+    assertThat(routing.healthyReplicas()).isEqualTo(1);
+
+    ReadWriteRoutingDataSource allDown = route(List.of(broken), 0);
+    assertThat(readOnly()).isEqualTo("primary"); // 모든 복제본이 내려가면 primary 에서 읽음
+    assertThat(allDown.healthyReplicas()).isZero();
+    assertThat(allDown.routesReadsToReplica()).isFalse();
+  }
+
+  private ReadWriteRoutingDataSource route(List<DataSource> replicas, long readYourWritesMs) {
+    ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replicas, readYourWritesMs);
+    DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+    DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+    readWrite = new TransactionTemplate(transactionManager);
+    return routing;
+  }
+
+  private String readOnly() {
+    return readOnly.execute(status -> node());
+  }
+
+  private String node() {
+    return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+  }
+
+  private DriverManagerDataSource database(String name) { // 이름이 저장된 H2 인스턴스 하나 (어느 DB 에서 읽었는지 확인)
+    DriverManagerDataSource database = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    JdbcTemplate template = new JdbcTemplate(database);
+    template.execute("CREATE TABLE node (name VARCHAR(32))");
+    template.update("INSERT INTO node VALUES (?)", name);
+    return database;
+  }
+}
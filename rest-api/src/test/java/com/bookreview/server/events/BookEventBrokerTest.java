@@ -0,0 +1,92 @@
+package com.bookreview.server.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class BookEventBrokerTest {
+  private BookEventBroker broker;
+
+  @AfterEach
+  void tearDown() {
+    broker.stop();
+  }
+
+  @Test
+  void resumesFromLastEventIdAndResetsWhenHistoryIsGone() throws Exception {
+    MockMvc mvc = start(10, 3);
+    MvcResult live = subscribe(mvc, "OL1W", null);
+
+    for (int i = 1; i <= 4; i++) {
+      broker.publish("OL1W", BookEventBroker.REVIEW_CREATED, Map.of("reviewId", i));
+    }
+    broker.publish("OL2W", BookEventBroker.REVIEW_CREATED, Map.of("reviewId", 99)); // 다른 도서의 이벤트는 받지 않음
+
+    String stream = await(live.getResponse(), "\"reviewId\":4");
+    assertThat(stream).contains("event:connected").doesNotContain("\"reviewId\":99");
+
+    Matcher ids = Pattern.compile("id:(\\d+)\nevent:review.created").matcher(stream);
+    ids.find();
+    ids.find();
+    ids.find();
+    String third = ids.group(1);
+
+    String resumed = await(subscribe(mvc, "OL1W", third).getResponse(), "\"reviewId\":4"); // 3번째 이후만 이어 받음
+    assertThat(resumed).doesNotContain("\"reviewId\":3").doesNotContain("event:reset");
+
+    String reset = await(subscribe(mvc, "OL1W", "1").getResponse(), "event:reset"); // 링(3개)에서 밀려난 ID
+    assertThat(reset).doesNotContain("review.created");
+  }
+
+  @Test
+  void rejectsSubscribersOverTheCap() throws Exception {
+    MockMvc mvc = start(1, 10);
+    subscribe(mvc, "OL1W", null);
+
+    mvc.perform(get("/books/OL1W/events")).andExpect(status().isServiceUnavailable());
+    assertThat(broker.subscriberCount()).isEqualTo(1);
+  }
+
+  private MockMvc start(int maxSubscribers, int historySize) {
+    broker = new BookEventBroker(new ObjectMapper(), maxSubscribers, 8, historySize, 60_000, 60_000);
+    broker.start();
+    return MockMvcBuilders.standaloneSetup(new BookEventController(broker)).build();
+  }
+
+  private static MvcResult subscribe(MockMvc mvc, String bookId, String lastEventId) throws Exception {
+    var request = get("/books/" + bookId + "/events");
+
+    if (lastEventId != null) {
+      request.header(BookEventController.LAST_EVENT_ID, lastEventId);
+    }
+
+    return mvc.perform(request).andExpect(request().asyncStarted()).andReturn();
+  }
+
+  private static String await(MockHttpServletResponse response, String expected) throws Exception { // 이벤트는 별도 스레드가 쓰므로 잠시 기다림
+    for (int i = 0; i < 100; i++) {
+      String content = response.getContentAsString();
+
+      if (content.contains(expected)) {
+        return content;
+      }
+
+      Thread.sleep(20);
+    }
+
+    return response.getContentAsString();
+  }
+}
@@ -0,0 +1,123 @@
+package com.bookreview.server.importer;
+
+import com.bookreview.server.review.TopReviews;
+import com.bookreview.server.search.ReviewSearchIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReviewImporterTest {
+  private JdbcTemplate jdbcTemplate;
+  private ReviewSearchIndex searchIndex;
+  private ReviewImporter importer;
+
+  @BeforeEach
+  void setUp() {
+    String url = "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+    jdbcTemplate.execute("CREATE TABLE users (id BIGINT AUTO_INCREMENT PRIMARY KEY, username VARCHAR(255) UNIQUE, password VARCHAR(255))");
+    jdbcTemplate.execute("CREATE TABLE review (id BIGINT AUTO_INCREMENT PRIMARY KEY, book_id VARCHAR(255), content VARCHAR(255),"
+        + " created_at TIMESTAMP(6), like_count BIGINT NOT NULL, reply_count BIGINT NOT NULL, user_id BIGINT, version BIGINT NOT NULL)");
+    jdbcTemplate.execute("CREATE TABLE reply (id BIGINT AUTO_INCREMENT PRIMARY KEY, content VARCHAR(255), created_at TIMESTAMP(6), review_id BIGINT, user_id BIGINT,"
+        + " version BIGINT NOT NULL)");
+    jdbcTemplate.execute("CREATE TABLE review_like (review_id BIGINT NOT NULL, user_id VARCHAR(255), UNIQUE (review_id, user_id))");
+    jdbcTemplate.execute("CREATE TABLE book_review_stats (book_id VARCHAR(255) PRIMARY KEY, review_count BIGINT NOT NULL, like_total BIGINT NOT NULL, latest_review_at TIMESTAMP(6))");
+    jdbcTemplate.update("INSERT INTO users (username, password) VALUES ('alice', 'x'), ('bob', 'x')");
+    jdbcTemplate.update("INSERT INTO book_review_stats VALUES ('OL1W', 1, 2, TIMESTAMP '2024-01-01 00:00:00')"); // 이미 있는 리뷰 1개, 좋아요 2개
+
+    DataSourceProperties properties = new DataSourceProperties();
+    properties.setUrl(url);
+    properties.setUsername("sa");
+
+    EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+    SessionFactory sessionFactory = mock(SessionFactory.class);
+    when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+    when(sessionFactory.getCache()).thenReturn(mock(Cache.class));
+
+    searchIndex = mock(ReviewSearchIndex.class);
+    importer = new ReviewImporter(properties, new ObjectMapper().registerModule(new JavaTimeModule()), searchIndex, entityManagerFactory,
+        mock(TopReviews.class), 2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    importer.close();
+  }
+
+  @Test
+  void importsReviewsWithRepliesAndLikesInBatches() throws Exception {
+    ImportReport report = importer.importReviews(ndjson(
+        "{\"bookId\":\"OL1W\",\"username\":\"alice\",\"content\":\"first\",\"createdAt\":\"2024-02-01T10:00:00\",\"likes\":[\"bob\",\"bob\",\"carol\"],"
+            + "\"replies\":[{\"username\":\"bob\",\"content\":\"reply to first\"}]}",
+        "{\"bookId\":\"OL2W\",\"username\":\"bob\",\"content\":\"second\"}",
+        "{\"bookId\":\"OL1W\",\"username\":\"alice\",\"content\":\"third\",\"createdAt\":\"2024-03-01T10:00:00\",\"replies\":["
+            + "{\"username\":\"alice\",\"content\":\"reply to third\"},{\"username\":\"bob\",\"content\":\"another\"}]}"));
+
+    assertThat(report.running()).isFalse();
+    assertThat(report.reviews()).isEqualTo(3);
+    assertThat(report.replies()).isEqualTo(3);
+    assertThat(report.likes()).isEqualTo(2); // 중복 좋아요는 하나로
+    assertThat(report.failed()).isZero();
+
+    Long third = jdbcTemplate.queryForObject("SELECT id FROM review WHERE content = 'third'", Long.class);
+    assertThat(jdbcTemplate.queryForList("SELECT content FROM reply WHERE review_id = ? ORDER BY id", String.class, third))
+        .containsExactly("reply to third", "another"); // 생성 키로 받은 리뷰 ID 에 답글이 붙음
+    assertThat(jdbcTemplate.queryForObject("SELECT like_count FROM review WHERE content = 'first'", Long.class)).isEqualTo(2);
+    assertThat(jdbcTemplate.queryForObject("SELECT reply_count FROM review WHERE content = 'third'", Long.class)).isEqualTo(2);
+
+    Map<String, Object> stats = jdbcTemplate.queryForMap("SELECT review_count, like_total, latest_review_at FROM book_review_stats WHERE book_id = 'OL1W'");
+    assertThat(stats.get("review_count")).isEqualTo(3L);
+    assertThat(stats.get("like_total")).isEqualTo(4L);
+    assertThat(stats.get("latest_review_at").toString()).startsWith("2024-03-01 10:00");
+
+    verify(searchIndex, times(3)).indexReview(anyLong(), anyString(), anyString(), any());
+    verify(searchIndex, times(3)).indexReply(anyLong(), anyLong(), anyString(), anyString(), any());
+  }
+
+  @Test
+  void reportsFailedRowsAndKeepsImportingTheRest() throws Exception {
+    ImportReport report = importer.importReviews(ndjson(
+        "{\"bookId\":\"OL1W\",\"username\":\"alice\",\"content\":\"ok 1\"}",
+        "not json",
+        "{\"bookId\":\"OL1W\",\"username\":\"nobody\",\"content\":\"unknown author\"}",
+        "",
+        "{\"bookId\":\"OL1W\",\"username\":\"alice\",\"content\":\"" + "x".repeat(300) + "\"}", // 컬럼보다 길어서 DB 에서 실패 → 배치를 한 줄씩 다시 넣음
+        "{\"bookId\":\"OL1W\",\"username\":\"bob\",\"content\":\"ok 2\"}",
+        "{\"bookId\":\"OL1W\",\"content\":\"no author\"}"));
+
+    assertThat(report.lines()).isEqualTo(7);
+    assertThat(report.reviews()).isEqualTo(2);
+    assertThat(report.failed()).isEqualTo(4);
+    assertThat(report.errors()).extracting(ImportReport.RowError::line).containsExactly(2L, 3L, 5L, 7L);
+    assertThat(report.errors().get(1).message()).isEqualTo("Unknown user: nobody");
+    assertThat(jdbcTemplate.queryForList("SELECT content FROM review ORDER BY id", String.class)).containsExactly("ok 1", "ok 2");
+    assertThat(importer.progress()).isEqualTo(report);
+  }
+
+  private static ByteArrayInputStream ndjson(String... lines) {
+    return new ByteArrayInputStream(String.join("\n", List.of(lines)).getBytes(StandardCharsets.UTF_8));
+  }
+}
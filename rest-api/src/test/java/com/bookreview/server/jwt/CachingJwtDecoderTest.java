@@ -0,0 +1,94 @@
+package com.bookreview.server.jwt;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingJwtDecoderTest {
+	private static final Instant NOW = Instant.parse("2024-05-01T12:00:00Z");
+
+	@Test
+	void sameTokenIsVerifiedOnce() {
+		JwtDecoder delegate = mock(JwtDecoder.class);
+		when(delegate.decode("token")).thenReturn(jwt("token", NOW.plusSeconds(600)));
+		CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 100, Clock.fixed(NOW, ZoneOffset.UTC));
+
+		decoder.decode("token");
+		Jwt second = decoder.decode("token");
+
+		assertThat(second.getSubject()).isEqualTo("alice");
+		verify(delegate, times(1)).decode("token"); // 두 번째는 서명 검증 없이 캐시에서
+	}
+
+	@Test
+	void invalidTokenIsNotCached() {
+		JwtDecoder delegate = mock(JwtDecoder.class);
+		when(delegate.decode("bad")).thenThrow(new BadJwtException("bad signature"));
+		CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 100, Clock.fixed(NOW, ZoneOffset.UTC));
+
+		assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(BadJwtException.class);
+		assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(BadJwtException.class);
+
+		verify(delegate, times(2)).decode("bad"); // 실패는 매번 다시 검증
+		assertThat(decoder.size()).isZero();
+	}
+
+	@Test
+	void expiredEntryIsVerifiedAgain() {
+		JwtDecoder delegate = mock(JwtDecoder.class);
+		when(delegate.decode("token")).thenReturn(jwt("token", NOW.plusSeconds(60)));
+		MutableClock clock = new MutableClock(NOW);
+		CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 100, clock);
+
+		decoder.decode("token");
+		clock.now = NOW.plusSeconds(61); // exp 이후
+
+		decoder.decode("token");
+
+		verify(delegate, times(2)).decode("token");
+	}
+
+	private static Jwt jwt(String token, Instant expiresAt) {
+		return Jwt.withTokenValue(token)
+			.header("alg", "RS256")
+			.subject("alice")
+			.issuedAt(NOW.minusSeconds(10))
+			.expiresAt(expiresAt)
+			.build();
+	}
+
+	private static final class MutableClock extends Clock {
+		Instant now;
+
+		MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		@Override
+		public ZoneOffset getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(java.time.ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package com.bookreview.server.jwt;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtSigningKeysTest {
+
+	@Test
+	void keyFileIsReusedAfterRestart(@TempDir Path dir) {
+		Path jwks = dir.resolve("jwks.json");
+		JwtSigningKeys first = JwtSigningKeys.load("ES256", jwks.toString(), "", "", "");
+		String token = sign(first, "alice");
+
+		JwtSigningKeys restarted = JwtSigningKeys.load("ES256", jwks.toString(), "", "", ""); // 같은 파일에서 다시 읽음
+
+		assertThat(restarted.activeKeyId()).isEqualTo(first.activeKeyId());
+		assertThat(restarted.decoder().decode(token).getSubject()).isEqualTo("alice"); // 재시작 전에 발급한 토큰도 유효
+	}
+
+	@Test
+	void tokensSignedWithPreviousKeyStayValidDuringRotation() throws Exception {
+		JWK oldKey = JwtSigningKeys.generate(JWSAlgorithm.RS256);
+		JWK newKey = JwtSigningKeys.generate(JWSAlgorithm.ES256);
+		String oldToken = sign(JwtSigningKeys.of(new JWKSet(oldKey), JWSAlgorithm.RS256, ""), "alice");
+
+		JwtSigningKeys rotated = JwtSigningKeys.of(new JWKSet(List.of(oldKey, newKey)), JWSAlgorithm.ES256, newKey.getKeyID());
+		String newToken = sign(rotated, "bob");
+
+		assertThat(rotated.decoder().decode(oldToken).getSubject()).isEqualTo("alice"); // 이전 키(kid)로 서명된 토큰
+		assertThat(rotated.decoder().decode(newToken).getHeaders()).containsEntry("kid", newKey.getKeyID());
+
+		JwtSigningKeys retired = JwtSigningKeys.of(new JWKSet(newKey), JWSAlgorithm.ES256, ""); // 이전 키를 파일에서 제거한 뒤
+		assertThatThrownBy(() -> retired.decoder().decode(oldToken)).isInstanceOf(BadJwtException.class);
+	}
+
+	@Test
+	void activeKidMustMatchAlgorithm() throws Exception {
+		JWK rsaKey = JwtSigningKeys.generate(JWSAlgorithm.RS256);
+
+		assertThatThrownBy(() -> JwtSigningKeys.of(new JWKSet(rsaKey), JWSAlgorithm.ES256, rsaKey.getKeyID()))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	private static String sign(JwtSigningKeys keys, String subject) {
+		JwtClaimsSet claims = JwtClaimsSet.builder()
+				.subject(subject)
+				.issuedAt(Instant.now())
+				.expiresAt(Instant.now().plusSeconds(600))
+				.build();
+		return new NimbusJwtEncoder(keys.jwkSource()).encode(JwtEncoderParameters.from(keys.header(), claims)).getTokenValue();
+	}
+}
@@ -0,0 +1,61 @@
+package com.bookreview.server.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingExecutorTest {
+
+	@Test
+	void rejectsWhenQueueIsFull() throws Exception {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		PasswordHashingExecutor executor = new PasswordHashingExecutor(registry, 1, 1, 3); // 스레드 1개, 대기열 1개
+		CountDownLatch release = new CountDownLatch(1);
+
+		try {
+			CompletableFuture<String> running = executor.submit("authenticate", () -> await(release, "first"));
+			CompletableFuture<String> queued = executor.submit("authenticate", () -> "second");
+
+			assertThatThrownBy(() -> executor.submit("authenticate", () -> "third")) // 세 번째 요청은 기다리지 않고 거절
+				.isInstanceOf(RejectedExecutionException.class);
+			assertThat(registry.get("auth.hashing.rejected").counter().count()).isEqualTo(1);
+			assertThat(registry.get("auth.hashing.queue.depth").gauge().value()).isEqualTo(1);
+
+			release.countDown();
+			assertThat(running.get()).isEqualTo("first");
+			assertThat(queued.get()).isEqualTo("second");
+			assertThat(registry.get("auth.hashing.duration").tag("operation", "authenticate").timer().count()).isEqualTo(2);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void tooManyRequestsCarriesRetryAfter() {
+		PasswordHashingExecutor executor = new PasswordHashingExecutor(new SimpleMeterRegistry(), 1, 1, 3);
+
+		ResponseEntity<?> response = executor.tooManyRequests();
+
+		assertThat(response.getStatusCode().value()).isEqualTo(429);
+		assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+		executor.shutdown();
+	}
+
+	private static String await(CountDownLatch latch, String value) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		return value;
+	}
+}
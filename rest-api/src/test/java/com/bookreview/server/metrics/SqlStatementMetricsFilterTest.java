@@ -0,0 +1,42 @@
+package com.bookreview.server.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatementMetricsFilterTest {
+
+	@Test
+	void statementsOfOneRequestAreRecordedByUriPattern() throws Exception {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		SqlStatementMetricsFilter filter = new SqlStatementMetricsFilter(registry);
+		SqlStatementCounter counter = new SqlStatementCounter();
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/reviews/7/replies");
+
+		filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+			counter.inspect("select ...");
+			counter.inspect("select ...");
+			req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/reviews/{reviewId}/replies");
+		});
+
+		DistributionSummary summary = registry.get("http.server.requests.sql").tag("uri", "/reviews/{reviewId}/replies").summary();
+		assertThat(summary.count()).isEqualTo(1);
+		assertThat(summary.totalAmount()).isEqualTo(2);
+	}
+
+	@Test
+	void statementsOutsideRequestsAreNotCounted() throws Exception {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		SqlStatementMetricsFilter filter = new SqlStatementMetricsFilter(registry);
+		new SqlStatementCounter().inspect("update ..."); // 좋아요 flush 스레드 등
+
+		filter.doFilter(new MockHttpServletRequest("GET", "/reviews"), new MockHttpServletResponse(), (req, res) -> {});
+
+		assertThat(registry.get("http.server.requests.sql").summary().totalAmount()).isZero();
+	}
+}
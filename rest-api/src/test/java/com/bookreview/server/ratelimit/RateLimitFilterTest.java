@@ -0,0 +1,141 @@
+package com.bookreview.server.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitFilterTest {
+  private final AtomicLong nanos = new AtomicLong();
+  private SimpleMeterRegistry meterRegistry;
+  private RateLimiter rateLimiter;
+  private RateLimitFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    filter = filter(true, List.of(
+        new RateLimitProperties.Rule("like", null, "/reviews/*/like", 3, Duration.ofSeconds(3), RateLimitProperties.Key.USER),
+        new RateLimitProperties.Rule("authenticate", "POST", "/authenticate", 2, Duration.ofMinutes(1), RateLimitProperties.Key.IP)));
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void limitsBurstsAndRefillsOverThePeriod() throws Exception {
+    assertThat(List.of(status("PUT", "/reviews/1/like", "10.0.0.1"), status("POST", "/reviews/2/like", "10.0.0.1"), status("DELETE", "/reviews/3/like", "10.0.0.1")))
+        .containsOnly(200);
+
+    MockHttpServletResponse limited = request("PUT", "/reviews/1/like", "10.0.0.1");
+    assertThat(limited.getStatus()).isEqualTo(429);
+    assertThat(limited.getHeader("Retry-After")).isEqualTo("1"); // 토큰 하나가 차는 데 1초
+
+    nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+    assertThat(status("PUT", "/reviews/1/like", "10.0.0.1")).isEqualTo(429);
+    nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+    assertThat(status("PUT", "/reviews/1/like", "10.0.0.1")).isEqualTo(200); // 한 개만 다시 참
+    assertThat(status("PUT", "/reviews/1/like", "10.0.0.1")).isEqualTo(429);
+
+    nanos.addAndGet(TimeUnit.MINUTES.toNanos(1)); // 오래 쉬어도 capacity 이상 쌓이지 않음
+    assertThat(List.of(status("PUT", "/reviews/1/like", "10.0.0.1"), status("PUT", "/reviews/1/like", "10.0.0.1"),
+        status("PUT", "/reviews/1/like", "10.0.0.1"), status("PUT", "/reviews/1/like", "10.0.0.1"))).containsExactly(200, 200, 200, 429);
+
+    assertThat(meterRegistry.get("ratelimit.requests").tag("rule", "like").tag("outcome", "allowed").counter().count()).isEqualTo(7);
+    assertThat(meterRegistry.get("ratelimit.requests").tag("rule", "like").tag("outcome", "limited").counter().count()).isEqualTo(4);
+  }
+
+  @Test
+  void keysAuthenticatedRequestsByUserAndOthersByAddress() throws Exception {
+    for (int i = 0; i < 3; i++) {
+      assertThat(status("PUT", "/reviews/1/like", "10.0.0.1")).isEqualTo(200);
+    }
+
+    assertThat(status("PUT", "/reviews/1/like", "10.0.0.1")).isEqualTo(429);
+    assertThat(status("PUT", "/reviews/1/like", "10.0.0.2")).isEqualTo(200); // 다른 IP
+
+    SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("alice", null, "ROLE_USER"));
+    assertThat(status("PUT", "/reviews/1/like", "10.0.0.1")).isEqualTo(200); // 같은 IP 라도 로그인한 사용자는 따로 셈
+
+    assertThat(status("POST", "/authenticate", "10.0.0.1")).isEqualTo(200);
+    assertThat(status("POST", "/authenticate", "10.0.0.1")).isEqualTo(200);
+    SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("bob", null, "ROLE_USER"));
+    assertThat(status("POST", "/authenticate", "10.0.0.1")).isEqualTo(429); // key=ip 인 규칙은 사용자와 상관없이 IP 로 셈
+    assertThat(request("POST", "/authenticate", "10.0.0.1").getHeader("Retry-After")).isEqualTo("30");
+  }
+
+  @Test
+  void passesRequestsWithoutAMatchingRule() throws Exception {
+    assertThat(status("GET", "/reviews", "10.0.0.1")).isEqualTo(200);
+    assertThat(status("GET", "/authenticate", "10.0.0.1")).isEqualTo(200);
+    assertThat(meterRegistry.find("ratelimit.requests").tag("rule", "authenticate").tag("outcome", "allowed").counter().count()).isZero();
+
+    filter = filter(false, List.of(new RateLimitProperties.Rule("like", null, "/reviews/*/like", 1, Duration.ofHours(1), RateLimitProperties.Key.USER)));
+    assertThat(List.of(status("PUT", "/reviews/1/like", "10.0.0.1"), status("PUT", "/reviews/1/like", "10.0.0.1"))).containsOnly(200); // 꺼져 있으면 제한 없음
+  }
+
+  @Test
+  void matchesEncodedPathsLikeTheDispatcher() throws Exception {
+    assertThat(List.of(status("PUT", "/review%73/1/like", "10.0.0.1"), status("PUT", "/reviews;a=b/1/like", "10.0.0.1"),
+        status("PUT", "/reviews/1/like", "10.0.0.1"), status("PUT", "/reviews/1/lik%65", "10.0.0.1"))).containsExactly(200, 200, 200, 429);
+  }
+
+  @Test
+  void forgetsBucketsThatHaveRefilled() throws Exception {
+    status("PUT", "/reviews/1/like", "10.0.0.1");
+    status("PUT", "/reviews/1/like", "10.0.0.2");
+    status("PUT", "/reviews/1/like", "10.0.0.2");
+    status("PUT", "/reviews/1/like", "10.0.0.2");
+    nanos.addAndGet(TimeUnit.SECONDS.toNanos(2));
+    status("PUT", "/reviews/1/like", "10.0.0.2");
+    status("PUT", "/reviews/1/like", "10.0.0.3");
+    assertThat(rateLimiter.route("PUT", "/reviews/1/like").keys()).isEqualTo(3); // period(3초)가 지나기 전에는 지우지 않음
+
+    nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(1500));
+    status("PUT", "/reviews/1/like", "10.0.0.4"); // 새 키가 생기면서 정리: 10.0.0.1, 10.0.0.3 은 가득 참, 10.0.0.2 는 아직 한 개 부족
+    assertThat(rateLimiter.route("PUT", "/reviews/1/like").keys()).isEqualTo(2);
+    assertThat(meterRegistry.get("ratelimit.keys").tag("rule", "like").gauge().value()).isEqualTo(2);
+    assertThat(List.of(status("PUT", "/reviews/1/like", "10.0.0.2"), status("PUT", "/reviews/1/like", "10.0.0.2"),
+        status("PUT", "/reviews/1/like", "10.0.0.2"))).containsExactly(200, 200, 429); // 지우지 않은 버킷은 그대로
+  }
+
+  @Test
+  void rejectsInvalidRules() {
+    assertThatThrownBy(() -> filter(true, List.of(new RateLimitProperties.Rule("like", null, "/reviews/*/like", 0, Duration.ofMinutes(1), RateLimitProperties.Key.USER))))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> filter(true, List.of(new RateLimitProperties.Rule("like", null, "/reviews/*/like", 1, Duration.ZERO, RateLimitProperties.Key.USER))))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private RateLimitFilter filter(boolean enabled, List<RateLimitProperties.Rule> rules) {
+    meterRegistry = new SimpleMeterRegistry();
+    rateLimiter = new RateLimiter(new RateLimitProperties(enabled, 1000, rules), meterRegistry, nanos::get, Runnable::run);
+    return new RateLimitFilter(rateLimiter);
+  }
+
+  private int status(String method, String path, String remoteAddress) throws Exception {
+    return request(method, path, remoteAddress).getStatus();
+  }
+
+  private MockHttpServletResponse request(String method, String path, String remoteAddress) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+    request.setRemoteAddr(remoteAddress);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, new MockFilterChain());
+    return response;
+  }
+}
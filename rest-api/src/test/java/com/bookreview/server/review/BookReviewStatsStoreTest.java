@@ -0,0 +1,38 @@
+package com.bookreview.server.review;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookReviewStatsStoreTest {
+	private JdbcTemplate jdbcTemplate;
+	private BookReviewStatsStore store;
+
+	@BeforeEach
+	void setUp() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE review (id BIGINT AUTO_INCREMENT PRIMARY KEY, book_id VARCHAR(255), like_count BIGINT NOT NULL, created_at TIMESTAMP(6))");
+		jdbcTemplate.execute("CREATE TABLE book_review_stats (book_id VARCHAR(255) PRIMARY KEY, review_count BIGINT NOT NULL, like_total BIGINT NOT NULL, latest_review_at TIMESTAMP(6))");
+		jdbcTemplate.update("INSERT INTO review (book_id, like_count, created_at) VALUES ('OL1W', 2, TIMESTAMP '2024-01-01 00:00:00'), ('OL1W', 3, TIMESTAMP '2024-01-02 00:00:00'),"
+			+ " ('OL2W', 1, TIMESTAMP '2024-01-03 00:00:00')");
+		store = new BookReviewStatsStore(jdbcTemplate);
+	}
+
+	@Test
+	void backfillInsertsMissingBooksAndFixesDriftedRows() {
+		jdbcTemplate.update("INSERT INTO book_review_stats VALUES ('OL1W', 1, 0, NULL)"); // 백필 전에 리뷰 등록이 먼저 만든 행
+
+		store.backfill();
+		store.backfill(); // 다시 실행해도 같은 결과
+
+		assertThat(jdbcTemplate.queryForList("SELECT CONCAT(book_id, ':', review_count, ':', like_total) FROM book_review_stats ORDER BY book_id", String.class))
+			.containsExactly("OL1W:2:5", "OL2W:1:1");
+		assertThat(jdbcTemplate.queryForObject("SELECT latest_review_at FROM book_review_stats WHERE book_id = 'OL1W'", String.class)).startsWith("2024-01-02");
+	}
+}
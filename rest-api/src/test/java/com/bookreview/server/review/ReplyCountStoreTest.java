@@ -0,0 +1,114 @@
+package com.bookreview.server.review;
+
+import com.bookreview.server.cache.QueryGenerations;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReplyCountStoreTest {
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate transactionTemplate;
+	private Cache cache;
+	private QueryGenerations generations;
+	private ReplyCountStore store;
+
+	@BeforeEach
+	void setUp() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		jdbcTemplate.execute("CREATE TABLE review (id BIGINT AUTO_INCREMENT PRIMARY KEY, reply_count BIGINT NOT NULL, version BIGINT NOT NULL DEFAULT 0)");
+		jdbcTemplate.execute("CREATE TABLE reply (id BIGINT AUTO_INCREMENT PRIMARY KEY, review_id BIGINT)");
+		jdbcTemplate.update("INSERT INTO review (reply_count) VALUES (0), (0)");
+
+		EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+		SessionFactory sessionFactory = mock(SessionFactory.class);
+		cache = mock(Cache.class);
+		when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+		when(sessionFactory.getCache()).thenReturn(cache);
+
+		generations = mock(QueryGenerations.class);
+		store = new ReplyCountStore(jdbcTemplate, entityManagerFactory, mock(TopReviews.class), generations);
+	}
+
+	@Test
+	void concurrentRepliesAreAllCounted() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		List<Future<?>> futures = new ArrayList<>();
+
+		try {
+			for (int i = 0; i < 200; i++) {
+				futures.add(executor.submit(() -> transactionTemplate.executeWithoutResult(status -> store.replyAdded(1L, "OL1W"))));
+			}
+
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		store.replyRemoved(1L, "OL1W");
+
+		assertThat(replyCount(1L)).isEqualTo(199L); // 읽고 쓰지 않으므로 잃어버린 증가가 없음
+		assertThat(replyCount(2L)).isZero();
+	}
+
+	@Test
+	void evictsOnlyAfterCommit() {
+		transactionTemplate.executeWithoutResult(status -> {
+			store.replyAdded(1L, "OL1W");
+			status.setRollbackOnly();
+		});
+
+		assertThat(replyCount(1L)).isZero();
+		verify(cache, never()).evictEntityData(Review.class, 1L); // 롤백되면 캐시를 비우지 않음
+		verify(generations, never()).bookChanged("OL1W");
+
+		transactionTemplate.executeWithoutResult(status -> store.replyAdded(1L, "OL1W"));
+
+		verify(cache).evictEntityData(Review.class, 1L);
+		verify(generations).bookChanged("OL1W"); // 그 도서의 목록만 (영역 전체를 비우지 않음)
+		verify(generations).reviewChanged(1L);
+		verify(cache, never()).evictQueryRegion(anyString());
+	}
+
+	@Test
+	void backfillsCountsOnlyWhenNoneAreSet() {
+		jdbcTemplate.update("INSERT INTO reply (review_id) VALUES (1), (1), (2)");
+
+		store.backfill();
+
+		assertThat(replyCount(1L)).isEqualTo(2L);
+		assertThat(replyCount(2L)).isEqualTo(1L);
+
+		jdbcTemplate.update("INSERT INTO reply (review_id) VALUES (2)"); // 카운터로 관리된 뒤에는 다시 채우지 않음
+		store.backfill();
+
+		assertThat(replyCount(2L)).isEqualTo(1L);
+	}
+
+	private long replyCount(Long reviewId) {
+		return jdbcTemplate.queryForObject("SELECT reply_count FROM review WHERE id = ?", Long.class, reviewId);
+	}
+}
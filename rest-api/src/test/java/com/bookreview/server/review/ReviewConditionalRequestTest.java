@@ -0,0 +1,157 @@
+package com.bookreview.server.review;
+
+import com.bookreview.server.cache.QueryGenerations;
+import com.bookreview.server.events.BookEventBroker;
+import com.bookreview.server.reply.ReplyRepository;
+import com.bookreview.server.search.ReviewSearchIndex;
+import com.bookreview.server.user.User;
+import com.bookreview.server.user.UserPrincipal;
+import com.bookreview.server.user.UserPrincipalCache;
+import com.bookreview.server.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReviewConditionalRequestTest {
+	private ReviewRepository reviewRepository;
+	private ReviewLikeStore likeStore;
+	private ReviewLikeBuffer likeBuffer;
+	private UserPrincipalCache principalCache;
+	private ReviewService service;
+
+	@BeforeEach
+	void setUp() {
+		reviewRepository = mock(ReviewRepository.class);
+		likeStore = mock(ReviewLikeStore.class);
+		when(likeStore.isLiked(anyLong(), anyString())).thenReturn(false);
+		likeBuffer = new ReviewLikeBuffer(likeStore, true, 60_000, 10_000); // 스케줄러 없이 직접 flush
+		principalCache = mock(UserPrincipalCache.class);
+		service = new ReviewService(reviewRepository, mock(ReplyRepository.class), mock(UserRepository.class), principalCache, likeBuffer,
+			mock(BookReviewStatsRepository.class), mock(BookReviewStatsStore.class), mock(ReviewSearchIndex.class), mock(BookEventBroker.class),
+			mock(TopReviews.class), new QueryGenerations(1000), 0);
+
+		when(reviewRepository.findListVersionByBookId(eq("OL1W"), anyLong())).thenReturn(new ReviewListVersion(2, 2, 5));
+		when(reviewRepository.findSummariesByBookId(eq("OL1W"), anyLong())).thenReturn(List.of(summary(2L), summary(1L)));
+	}
+
+	@Test
+	void listIsNotReadAgainWhileNothingChanged() {
+		ResponseEntity<?> first = service.readReviewsIfModified("OL1W", null, null, null, "alice", null, null);
+		String etag = first.getHeaders().getETag();
+
+		assertThat(first.getStatusCode().value()).isEqualTo(200);
+		assertThat(etag).startsWith("\"");
+		assertThat(first.getHeaders().getCacheControl()).contains("no-cache");
+
+		ResponseEntity<?> second = service.readReviewsIfModified("OL1W", null, null, null, "alice", etag, null);
+		assertThat(second.getStatusCode().value()).isEqualTo(304);
+		assertThat(second.getBody()).isNull();
+		assertThat(second.getHeaders().getETag()).isEqualTo(etag);
+		verify(reviewRepository).findSummariesByBookId(eq("OL1W"), anyLong()); // 304 는 목록을 조회하지 않음
+
+		ResponseEntity<?> gzip = service.readReviewsIfModified("OL1W", null, null, null, "alice", etag, "gzip, br");
+		assertThat(gzip.getStatusCode().value()).isEqualTo(304); // If-None-Match 는 약한 비교
+		assertThat(gzip.getHeaders().getETag()).isEqualTo("W/" + etag); // 압축될 수 있는 응답은 약한 ETag
+		assertThat(service.readReviewsIfModified("OL1W", null, null, null, "alice", "W/" + etag, null).getStatusCode().value()).isEqualTo(304);
+		assertThat(service.readReviewsIfModified("OL1W", null, null, null, "bob", etag, null).getStatusCode().value()).isEqualTo(200); // liked 가 사용자마다 다름
+		assertThat(service.readReviewsIfModified("OL1W", null, 10, null, "alice", etag, null).getStatusCode().value()).isEqualTo(200); // 다른 페이지
+	}
+
+	@Test
+	void listETagChangesWithPendingLikesAndVersions() {
+		String etag = service.readReviewsIfModified("OL1W", null, null, null, "alice", null, null).getHeaders().getETag();
+
+		likeBuffer.like(1L, "OL1W", "bob"); // 아직 DB 에 반영되지 않은 좋아요도 목록에 합쳐지므로
+		String pending = service.readReviewsIfModified("OL1W", null, null, null, "alice", etag, null).getHeaders().getETag();
+		assertThat(pending).isNotEqualTo(etag);
+
+		likeBuffer.like(7L, "OL2W", "bob"); // 다른 도서의 좋아요는 영향 없음
+		assertThat(service.readReviewsIfModified("OL1W", null, null, null, "alice", pending, null).getStatusCode().value()).isEqualTo(304);
+
+		when(likeStore.apply(anyLong(), anyString(), any())).thenReturn(1L);
+		likeBuffer.flush(); // 반영되면 버전 합이 바뀜
+		when(reviewRepository.findListVersionByBookId(eq("OL1W"), anyLong())).thenReturn(new ReviewListVersion(2, 2, 6));
+		String flushed = service.readReviewsIfModified("OL1W", null, null, null, "alice", pending, null).getHeaders().getETag();
+		assertThat(flushed).isNotIn(etag, pending);
+
+		when(reviewRepository.findListVersionByBookId(eq("OL1W"), anyLong())).thenReturn(new ReviewListVersion(1, 2, 3)); // 리뷰 삭제
+		assertThat(service.readReviewsIfModified("OL1W", null, null, null, "alice", flushed, null).getStatusCode().value()).isEqualTo(200);
+	}
+
+	@Test
+	void staleIfMatchIsRejectedWithoutWriting() {
+		Review review = review(1L, 3);
+		when(reviewRepository.findById(1L)).thenReturn(Optional.of(review));
+		when(principalCache.get(any(Jwt.class))).thenReturn(new UserPrincipal(10L, "alice"));
+
+		ResponseEntity<?> stale = service.updateReview(1L, edit("new"), jwt(), ETags.of(1L, 2L, 0L, null, "alice", 0));
+
+		assertThat(stale.getStatusCode().value()).isEqualTo(412);
+		assertThat(stale.getHeaders().getETag()).isNotNull(); // 현재 ETag 로 다시 시도할 수 있음
+		assertThat(review.getContent()).isEqualTo("old");
+		verify(reviewRepository, never()).save(any());
+
+		when(reviewRepository.save(review)).thenAnswer(invocation -> {
+			ReflectionTestUtils.setField(review, "version", 4L);
+			return review;
+		});
+		ResponseEntity<?> updated = service.updateReview(1L, edit("new"), jwt(), stale.getHeaders().getETag());
+
+		assertThat(updated.getStatusCode().value()).isEqualTo(200);
+		assertThat(updated.getHeaders().getETag()).isNotEqualTo(stale.getHeaders().getETag());
+		assertThat(review.getContent()).isEqualTo("new");
+	}
+
+	@Test
+	void concurrentUpdateIsReportedAsPreconditionFailed() {
+		Review review = review(1L, 3);
+		when(reviewRepository.findById(1L)).thenReturn(Optional.of(review));
+		when(principalCache.get(any(Jwt.class))).thenReturn(new UserPrincipal(10L, "alice"));
+		when(reviewRepository.save(review)).thenThrow(new ObjectOptimisticLockingFailureException(Review.class, 1L)); // 읽은 뒤 좋아요 반영으로 버전이 바뀜
+
+		assertThat(service.updateReview(1L, edit("new"), jwt(), null).getStatusCode().value()).isEqualTo(412);
+	}
+
+	private static ReviewSummary summary(Long id) {
+		return new ReviewSummary(id, "OL1W", "review " + id, LocalDateTime.of(2024, 1, (int) (long) id, 0, 0), 10L, "alice", 0, 0);
+	}
+
+	private static Review review(Long id, long version) {
+		User author = new User();
+		author.setId(10L);
+		Review review = new Review();
+		review.setId(id);
+		review.setBookId("OL1W");
+		review.setContent("old");
+		review.setUser(author);
+		ReflectionTestUtils.setField(review, "version", version);
+		return review;
+	}
+
+	private static Review edit(String content) {
+		Review review = new Review();
+		review.setContent(content);
+		return review;
+	}
+
+	private static Jwt jwt() {
+		return Jwt.withTokenValue("token").header("alg", "none").subject("alice").build();
+	}
+}
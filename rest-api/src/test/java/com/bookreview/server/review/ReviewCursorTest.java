@@ -0,0 +1,41 @@
+package com.bookreview.server.review;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReviewCursorTest {
+
+	@Test
+	void encodeAndDecodeRoundTrip() {
+		ReviewCursor cursor = new ReviewCursor(ReviewSort.OLDEST, LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_000_000), 42L);
+
+		assertThat(ReviewCursor.decode(cursor.encode())).isEqualTo(cursor);
+	}
+
+	@Test
+	void topCursorKeepsLikeCount() {
+		ReviewCursor cursor = ReviewCursor.of(ReviewSort.TOP, new ReviewSummary(42L, "OL1W", "review", LocalDateTime.of(2024, 5, 1, 0, 0), 10L, "alice", 7, 0));
+
+		assertThat(ReviewCursor.decode(cursor.encode())).isEqualTo(new ReviewCursor(ReviewSort.TOP, null, 7, 42L));
+	}
+
+	@Test
+	void rejectsMalformedToken() {
+		assertThatThrownBy(() -> ReviewCursor.decode("not a cursor"))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> ReviewCursor.decode("TkVXRVNUfGZvb3wx")) // "NEWEST|foo|1"
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void unknownSortIsRejected() {
+		assertThat(ReviewSort.from(null)).isEqualTo(ReviewSort.NEWEST);
+		assertThat(ReviewSort.from("oldest")).isEqualTo(ReviewSort.OLDEST);
+		assertThatThrownBy(() -> ReviewSort.from("random"))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
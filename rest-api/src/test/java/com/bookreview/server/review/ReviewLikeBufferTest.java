@@ -0,0 +1,165 @@
+package com.bookreview.server.review;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReviewLikeBufferTest {
+
+	@Test
+	void concurrentLikersOfOneReviewAreFlushedInOneWrite() throws Exception {
+		ReviewLikeStore store = mock(ReviewLikeStore.class);
+		when(store.isLiked(anyLong(), anyString())).thenReturn(false);
+		when(store.apply(anyLong(), anyString(), anyMap())).thenAnswer(invocation -> (long) ((Map<?, ?>) invocation.getArgument(2)).size());
+		ReviewLikeBuffer buffer = new ReviewLikeBuffer(store, true, 60_000, 10_000); // 스케줄러 없이 직접 flush
+
+		int likers = 200;
+		ExecutorService executor = Executors.newFixedThreadPool(16);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+
+		for (int i = 0; i < likers; i++) {
+			String userId = "user" + i;
+			futures.add(executor.submit(() -> {
+				start.await();
+				buffer.like(1L, "OL1W", userId);
+				return null;
+			}));
+		}
+
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		executor.shutdown();
+
+		assertThat(buffer.pendingDelta(1L)).isEqualTo(likers); // flush 전에도 조회시 합산됨
+		assertThat(buffer.pendingStates(1L)).hasSize(likers);
+
+		buffer.flush();
+
+		verify(store, times(1)).apply(eq(1L), eq("OL1W"), argThat(states -> states.size() == likers)); // N번이 아니라 한 번에 반영
+		assertThat(buffer.pendingDelta(1L)).isZero();
+	}
+
+	@Test
+	void likeThenUnlikeBeforeFlushCancelsOut() {
+		ReviewLikeStore store = mock(ReviewLikeStore.class);
+		when(store.isLiked(anyLong(), anyString())).thenReturn(false);
+		ReviewLikeBuffer buffer = new ReviewLikeBuffer(store, true, 60_000, 10_000);
+
+		buffer.like(1L, "OL1W", "alice");
+		buffer.like(1L, "OL1W", "alice"); // 같은 사용자의 중복 좋아요는 무시
+		buffer.unlike(1L, "OL1W", "alice");
+
+		assertThat(buffer.pendingDelta(1L)).isZero();
+		assertThat(buffer.pendingStates(1L)).containsEntry("alice", false);
+	}
+
+	@Test
+	void unlikeRereadsWhenAFlushCommitsDuringItsRead() {
+		ReviewLikeStore store = mock(ReviewLikeStore.class);
+		ReviewLikeBuffer buffer = new ReviewLikeBuffer(store, true, 60_000, 10_000);
+		Set<String> liked = ConcurrentHashMap.newKeySet(); // DB 대신
+		AtomicInteger reads = new AtomicInteger();
+		when(store.apply(anyLong(), anyString(), anyMap())).thenAnswer(invocation -> {
+			Map<String, Boolean> states = invocation.getArgument(2);
+			states.forEach((userId, like) -> {
+				if (like) {
+					liked.add(userId);
+				} else {
+					liked.remove(userId);
+				}
+			});
+			return (long) states.size();
+		});
+		when(store.isLiked(anyLong(), anyString())).thenAnswer(invocation -> {
+			boolean read = liked.contains(invocation.<String>getArgument(1));
+
+			if (reads.incrementAndGet() == 1) { // 취소 요청이 DB 를 읽은 뒤, 잠금을 잡기 전에 다른 요청의 좋아요가 flush 되어 커밋됨
+				buffer.like(1L, "OL1W", "alice");
+				buffer.flush();
+			}
+
+			return read;
+		});
+
+		buffer.unlike(1L, "OL1W", "alice");
+
+		assertThat(reads).hasValue(3); // 취소 요청이 DB 를 다시 읽음
+		assertThat(buffer.pendingStates(1L)).containsEntry("alice", false);
+		assertThat(buffer.pendingDelta(1L)).isEqualTo(-1);
+
+		buffer.flush();
+
+		assertThat(liked).isEmpty(); // 취소가 버려지지 않음
+	}
+
+	@Test
+	void failedFlushKeepsChangesPending() {
+		ReviewLikeStore store = mock(ReviewLikeStore.class);
+		when(store.isLiked(anyLong(), anyString())).thenReturn(false);
+		when(store.apply(anyLong(), anyString(), any())).thenThrow(new IllegalStateException("db down"));
+		ReviewLikeBuffer buffer = new ReviewLikeBuffer(store, true, 60_000, 10_000);
+
+		buffer.like(1L, "OL1W", "alice");
+		buffer.flush();
+
+		assertThat(buffer.pendingDelta(1L)).isEqualTo(1);
+		assertThat(buffer.pendingStates(1L)).containsEntry("alice", true);
+	}
+
+	@Test
+	void repeatedlyFailingFlushIsDropped() {
+		ReviewLikeStore store = mock(ReviewLikeStore.class);
+		when(store.isLiked(anyLong(), anyString())).thenReturn(false);
+		when(store.apply(anyLong(), anyString(), any())).thenThrow(new IllegalStateException("constraint"));
+		ReviewLikeBuffer buffer = new ReviewLikeBuffer(store, true, 60_000, 10_000);
+
+		buffer.like(1L, "OL1W", "alice");
+
+		for (int i = 0; i < ReviewLikeBuffer.MAX_FLUSH_ATTEMPTS; i++) {
+			buffer.flush();
+		}
+
+		assertThat(buffer.pendingDelta(1L)).isZero(); // 매 주기 같은 오류를 반복하지 않음
+		buffer.flush();
+		verify(store, times(ReviewLikeBuffer.MAX_FLUSH_ATTEMPTS)).apply(anyLong(), anyString(), any());
+	}
+
+	@Test
+	void deletedReviewDropsPendingChanges() {
+		ReviewLikeStore store = mock(ReviewLikeStore.class);
+		when(store.isLiked(anyLong(), anyString())).thenReturn(false);
+		ReviewLikeBuffer buffer = new ReviewLikeBuffer(store, true, 60_000, 10_000);
+
+		buffer.like(1L, "OL1W", "alice");
+		buffer.discard(1L);
+		buffer.flush();
+
+		assertThat(buffer.pendingDelta(1L)).isZero();
+		verify(store, never()).apply(anyLong(), anyString(), any());
+	}
+}
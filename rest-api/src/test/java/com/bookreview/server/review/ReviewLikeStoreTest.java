@@ -0,0 +1,70 @@
+package com.bookreview.server.review;
+
+import com.bookreview.server.cache.QueryGenerations;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReviewLikeStoreTest {
+	private JdbcTemplate jdbcTemplate;
+	private ReviewLikeStore store;
+
+	@BeforeEach
+	void setUp() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+		jdbcTemplate = spy(new JdbcTemplate(dataSource)); // 실행된 SQL 횟수를 확인
+		jdbcTemplate.execute("CREATE TABLE review (id BIGINT AUTO_INCREMENT PRIMARY KEY, book_id VARCHAR(255), like_count BIGINT NOT NULL, version BIGINT NOT NULL DEFAULT 0)");
+		jdbcTemplate.execute("CREATE TABLE review_like (review_id BIGINT NOT NULL REFERENCES review (id) ON DELETE CASCADE, user_id VARCHAR(255), UNIQUE (review_id, user_id))");
+		jdbcTemplate.execute("CREATE TABLE book_review_stats (book_id VARCHAR(255) PRIMARY KEY, review_count BIGINT NOT NULL, like_total BIGINT NOT NULL, latest_review_at TIMESTAMP(6))");
+		jdbcTemplate.update("INSERT INTO review (book_id, like_count) VALUES ('OL1W', 0)");
+		jdbcTemplate.update("INSERT INTO book_review_stats VALUES ('OL1W', 1, 0, NULL)");
+
+		EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+		SessionFactory sessionFactory = mock(SessionFactory.class);
+		when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+		when(sessionFactory.getCache()).thenReturn(mock(Cache.class));
+
+		store = new ReviewLikeStore(jdbcTemplate, mock(ReviewRepository.class), new BookReviewStatsStore(jdbcTemplate), entityManagerFactory,
+			mock(TopReviews.class), new QueryGenerations(1000));
+	}
+
+	@Test
+	void flushOfManyLikersWritesReviewRowOnce() {
+		jdbcTemplate.update("INSERT INTO review_like VALUES (1, 'carol')");
+		jdbcTemplate.update("UPDATE review SET like_count = 1 WHERE id = 1");
+
+		long delta = store.apply(1L, "OL1W", Map.of("alice", true, "bob", true, "carol", false, "dave", false)); // dave 는 누른 적 없음 → 0행
+
+		assertThat(delta).isEqualTo(1);
+		verify(jdbcTemplate, times(1)).batchUpdate(argThat((String sql) -> sql.startsWith("INSERT INTO review_like")), anyList()); // 추가는 배치 한 번
+		verify(jdbcTemplate, times(1)).batchUpdate(argThat((String sql) -> sql.startsWith("DELETE FROM review_like")), anyList()); // 삭제도 배치 한 번
+		verify(jdbcTemplate, times(1)).update(argThat((String sql) -> sql.startsWith("UPDATE review SET")), eq(1L), eq(1L)); // 좋아요 수와 버전은 사용자 수와 관계없이 한 번
+		assertThat(jdbcTemplate.queryForMap("SELECT like_count, version FROM review WHERE id = 1")).containsEntry("like_count", 2L).containsEntry("version", 1L);
+		assertThat(jdbcTemplate.queryForObject("SELECT like_total FROM book_review_stats WHERE book_id = 'OL1W'", Long.class)).isEqualTo(1);
+	}
+
+	@Test
+	void likesForDeletedReviewAreSkipped() {
+		jdbcTemplate.update("DELETE FROM review WHERE id = 1"); // 좋아요가 버퍼에 남은 채 리뷰가 삭제됨
+
+		assertThat(store.apply(1L, "OL1W", Map.of("alice", true, "bob", false))).isZero(); // 외래 키 오류 없이 0행
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM review_like", Long.class)).isZero();
+	}
+}
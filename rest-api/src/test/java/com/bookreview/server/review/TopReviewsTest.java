@@ -0,0 +1,142 @@
+package com.bookreview.server.review;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopReviewsTest {
+	private final List<ReviewSummary> table = new ArrayList<>(); // 한 도서의 리뷰 (DB 대신)
+	private final AtomicInteger loads = new AtomicInteger();
+	private final IntFunction<List<ReviewSummary>> loader = count -> {
+		loads.incrementAndGet();
+		return table.stream().sorted(TopReviews.ORDER).limit(count).toList();
+	};
+	private TopReviews topReviews;
+
+	@BeforeEach
+	void setUp() {
+		topReviews = new TopReviews(3, 100, 60);
+	}
+
+	@Test
+	void firstPageIsServedFromMemoryAndFollowsLikes() {
+		likes(1L, 5);
+		likes(2L, 3);
+		likes(3L, 1);
+		likes(4L, 0);
+		likes(5L, 0);
+
+		assertThat(ids(topReviews.firstPage("OL1W", 2, loader))).containsExactly(1L, 2L);
+		assertThat(loads).hasValue(1);
+
+		change(3L, 6); // 담고 있는 리뷰가 맨 앞으로
+		change(1L, 4);
+		assertThat(ids(topReviews.firstPage("OL1W", 3, loader))).containsExactly(3L, 1L, 2L);
+		assertThat(topReviews.firstPage("OL1W", 3, loader).get(0).likeCount()).isEqualTo(6);
+		assertThat(loads).hasValue(1); // 다시 읽지 않음
+
+		change(4L, 0); // 담지 않은 리뷰가 마지막보다 뒤에서 바뀌면 그대로
+		assertThat(ids(topReviews.firstPage("OL1W", 3, loader))).containsExactly(3L, 1L, 2L);
+		assertThat(loads).hasValue(1);
+
+		change(5L, 9); // 담지 않은 리뷰가 앞으로 올라오면 다시 읽음
+		assertThat(ids(topReviews.firstPage("OL1W", 3, loader))).containsExactly(5L, 3L, 1L);
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void reviewPushedBelowTheLastKeptOneIsDropped() {
+		likes(1L, 5);
+		likes(2L, 3);
+		likes(3L, 2);
+		likes(4L, 1);
+
+		assertThat(ids(topReviews.firstPage("OL1W", 3, loader))).containsExactly(1L, 2L, 3L);
+
+		change(2L, 0); // 담지 않은 4번(1개)보다 뒤로 밀려났는지 모르므로 뺌
+		assertThat(ids(topReviews.firstPage("OL1W", 2, loader))).containsExactly(1L, 3L);
+		assertThat(loads).hasValue(1);
+
+		assertThat(ids(topReviews.firstPage("OL1W", 3, loader))).containsExactly(1L, 3L, 4L); // 남은 것으로 한 페이지를 채울 수 없으면 다시 읽음
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void completeRankingReordersAndDropsOnNewReview() {
+		likes(1L, 1);
+		likes(2L, 0);
+
+		assertThat(ids(topReviews.firstPage("OL1W", 3, loader))).containsExactly(1L, 2L);
+
+		change(2L, 2); // 도서의 리뷰를 모두 담고 있으면 줄어들어도 자리만 바꿈
+		change(1L, 0);
+		assertThat(ids(topReviews.firstPage("OL1W", 3, loader))).containsExactly(2L, 1L);
+		assertThat(loads).hasValue(1);
+
+		likes(3L, 0);
+		topReviews.reviewAdded("OL1W");
+		assertThat(ids(topReviews.firstPage("OL1W", 3, loader))).containsExactly(2L, 1L, 3L);
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void changedReviewInvalidatesOnlyBooksKeepingIt() {
+		likes(1L, 1);
+		topReviews.firstPage("OL1W", 2, loader);
+		topReviews.firstPage("OL2W", 2, count -> List.of());
+
+		topReviews.reviewChanged(1L);
+
+		assertThat(topReviews.tracking()).isTrue(); // OL2W 는 남음
+		topReviews.firstPage("OL1W", 2, loader);
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void pagesLargerThanCapacityGoToTheLoader() {
+		likes(1L, 1);
+
+		topReviews.firstPage("OL1W", 4, loader);
+		topReviews.firstPage("OL1W", 4, loader);
+
+		assertThat(loads).hasValue(2);
+		assertThat(topReviews.tracking()).isFalse();
+	}
+
+	@Test
+	void likeCommittedWhileLoadingIsNotKept() {
+		likes(1L, 5);
+		likes(2L, 3);
+		IntFunction<List<ReviewSummary>> racing = count -> { // DB 를 읽은 뒤, 보관하기 전에 좋아요 flush 가 커밋됨
+			List<ReviewSummary> read = loader.apply(count);
+			change(2L, 9);
+			return read;
+		};
+
+		assertThat(ids(topReviews.firstPage("OL1W", 2, racing))).containsExactly(1L, 2L); // 이 요청은 읽은 값으로 답함
+		assertThat(ids(topReviews.firstPage("OL1W", 2, loader))).containsExactly(2L, 1L); // 이전 값을 보관하지 않았으므로 다시 읽음
+		assertThat(loads).hasValue(2);
+		assertThat(ids(topReviews.firstPage("OL1W", 2, loader))).containsExactly(2L, 1L);
+		assertThat(loads).hasValue(2);
+	}
+
+	private void likes(Long id, long likeCount) {
+		table.add(new ReviewSummary(id, "OL1W", "review " + id, LocalDateTime.of(2024, 1, 1, 0, 0), 10L, "alice", likeCount, 0));
+	}
+
+	private void change(Long id, long likeCount) { // 좋아요 flush 가 커밋된 뒤처럼 DB 를 먼저 바꾸고 알림
+		table.replaceAll(review -> review.id().equals(id) ? review.withLikes(likeCount, false) : review);
+		topReviews.likeCountChanged("OL1W", id, likeCount);
+	}
+
+	private static List<Long> ids(List<ReviewSummary> reviews) {
+		return reviews.stream().map(ReviewSummary::id).toList();
+	}
+}
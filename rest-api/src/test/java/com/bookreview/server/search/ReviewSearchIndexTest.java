@@ -0,0 +1,117 @@
+package com.bookreview.server.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class ReviewSearchIndexTest {
+  private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+  private ReviewSearchIndex index;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    index = new ReviewSearchIndex(mock(JdbcTemplate.class), "", 60_000, 60_000); // 메모리 색인, 갱신은 직접
+    index.open();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    index.close();
+  }
+
+  @Test
+  void findsReviewsAndRepliesByKoreanMorphemes() throws Exception {
+    index.indexReview(1L, "OL1W", "이 책이 정말 재미있었다", NOW);
+    index.indexReview(2L, "OL2W", "Great book about frontend testing", NOW);
+    index.indexReply(10L, 2L, "OL2W", "저도 이 책을 추천해요", NOW);
+    index.refresh();
+
+    SearchPage page = index.search("책", null, null, null); // "책이", "책을" 모두 "책"으로 색인
+
+    assertThat(page.total()).isEqualTo(2);
+    assertThat(page.items()).extracting(SearchHit::type).containsExactlyInAnyOrder("review", "reply");
+    assertThat(index.search("FRONTEND", null, null, null).items()).extracting(SearchHit::reviewId).containsExactly(2L);
+  }
+
+  @Test
+  void filtersByBookAndPaginates() throws Exception {
+    for (long id = 1; id <= 5; id++) {
+      index.indexReview(id, id <= 3 ? "OL1W" : "OL2W", "good book " + id, NOW);
+    }
+    index.refresh();
+
+    SearchPage first = index.search("good", "OL1W", 0, 2);
+    SearchPage second = index.search("good", "OL1W", first.nextPage(), 2);
+
+    assertThat(first.total()).isEqualTo(3);
+    assertThat(first.items()).hasSize(2);
+    assertThat(second.items()).hasSize(1);
+    assertThat(second.nextPage()).isNull();
+    assertThat(first.items()).extracting(SearchHit::bookId).containsOnly("OL1W");
+  }
+
+  @Test
+  void updatesAndDeletesDocuments() throws Exception {
+    index.indexReview(1L, "OL1W", "old words", NOW);
+    index.indexReply(10L, 1L, "OL1W", "reply words", NOW);
+    index.indexReview(1L, "OL1W", "new words", NOW); // 같은 리뷰는 문서를 교체
+    index.refresh();
+
+    assertThat(index.search("old", null, null, null).total()).isZero();
+    assertThat(index.search("words", null, null, null).total()).isEqualTo(2);
+
+    index.removeReview(1L); // 리뷰의 답글 문서도 함께 삭제
+    index.refresh();
+
+    assertThat(index.search("words", null, null, null).total()).isZero();
+  }
+
+  @Test
+  void rejectsRebuildWhileOneIsRunning() throws Exception {
+    JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    CountDownLatch reading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      reading.countDown();
+      release.await(); // 첫 번째 다시 만들기가 DB를 읽는 중
+      return List.of();
+    }).when(jdbcTemplate).query(anyString(), any(RowMapper.class), any(), any());
+
+    ReviewSearchIndex rebuilding = new ReviewSearchIndex(jdbcTemplate, "", 60_000, 60_000);
+    rebuilding.open();
+
+    try {
+      CompletableFuture<Long> first = CompletableFuture.supplyAsync(rebuilding::rebuild);
+      reading.await();
+
+      assertThatThrownBy(rebuilding::rebuild).isInstanceOf(IllegalStateException.class); // 409 로 바로 거절 (DB 전체를 한 번 더 읽지 않음)
+
+      release.countDown();
+      assertThat(first.get()).isZero();
+    } finally {
+      release.countDown();
+      rebuilding.close();
+    }
+  }
+
+  @Test
+  void rejectsMissingQueryAndDeepPages() {
+    assertThatThrownBy(() -> index.search(" ", null, null, null)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> index.search("book", null, 100, 50)).isInstanceOf(IllegalArgumentException.class);
+  }
+}